@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for a whole {@link Changelog#execute()}, from the repo to the output file.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class ChangelogBenchmark {
+  /**
+   * The output format.
+   */
+  @Param({"default", "markdown"})
+  public String format;
+
+  private File output;
+
+  /**
+   * Creates the output file.
+   * 
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Setup(Level.Trial)
+  public void create() throws IOException {
+    this.output = Files.createTempFile("loggit-bench", ".out").toFile();
+  }
+
+  /**
+   * Deletes the output file.
+   * 
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @TearDown(Level.Trial)
+  public void delete() throws IOException {
+    Files.delete(this.output.toPath());
+  }
+
+  /**
+   * The whole changelog of the repo's {@code master} branch.
+   * 
+   * @param repo the repo
+   * @return the size of the output file
+   * @throws MojoExecutionException unexpected
+   * @throws MojoFailureException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public long execute(SyntheticRepo repo) throws MojoExecutionException, MojoFailureException {
+    new Changelog(repo.directory(), this.output, this.format).execute();
+    return this.output.length();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.OutputTo;
+import org.llorllale.mvn.plgn.loggit.pre.Include;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading a {@link Log} from a repo.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LogBenchmark {
+  /**
+   * Matches the subject of one commit in ten.
+   */
+  private static final String TENTH = "^Commit #\\d*0$";
+
+  /**
+   * {@link DefaultLog#asXml()}: the log as a validated DOM.
+   * 
+   * @param repo the repo
+   * @return the log's XML
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML asXml(SyntheticRepo repo) throws IOException {
+    return new DefaultLog(repo.repository(), repo::head).asXml();
+  }
+
+  /**
+   * {@link ParallelLog#asXml()}: the log as a validated DOM, with the commits rendered by as
+   * many threads as there are cores.
+   * 
+   * @param repo the repo
+   * @return the log's XML
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML parallelAsXml(SyntheticRepo repo) throws IOException {
+    return new ParallelLog(
+      Runtime.getRuntime().availableProcessors(),
+      new DefaultLog(repo.repository(), repo::head)
+    ).asXml();
+  }
+
+  /**
+   * {@link XmlStream}: the log streamed as XML, as done for the {@code default} format.
+   * 
+   * @param repo the repo
+   * @return the number of bytes written
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public int stream(SyntheticRepo repo) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new XmlStream(new DefaultLog(repo.repository(), repo::head)).writeTo(new OutputTo(bytes));
+    return bytes.size();
+  }
+
+  /**
+   * {@link Include}: the log streamed as XML, keeping one commit in ten after they are walked.
+   * 
+   * @param repo the repo
+   * @return the number of bytes written
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public int includeAfterWalk(SyntheticRepo repo) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new XmlStream(
+      new Include(LogBenchmark.TENTH, "m", new DefaultLog(repo.repository(), repo::head))
+    ).writeTo(new OutputTo(bytes));
+    return bytes.size();
+  }
+
+  /**
+   * {@link Messages}: the log streamed as XML, keeping one commit in ten as they are walked.
+   * 
+   * @param repo the repo
+   * @return the number of bytes written
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public int includeInWalk(SyntheticRepo repo) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new XmlStream(
+      new DefaultLog(
+        repo.repository(), repo::head, new Tags(repo.repository()),
+        new Messages(new Regex(LogBenchmark.TENTH, "m"), true)
+      )
+    ).writeTo(new OutputTo(bytes));
+    return bytes.size();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for asking whether a commit is reachable from the head, as {@link CachedLog}
+ * does with the newest cached commit. The {@code oldest} commit is the worst case: the whole
+ * history is walked unless a bitmap index answers it. A {@code recent} commit, a few commits
+ * behind the head, is the usual case of a cache updated by every build.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class ReachabilityBenchmark {
+  /**
+   * The commit asked about: {@code oldest} or {@code recent}.
+   */
+  @Param({"oldest", "recent"})
+  public String ancestor;
+
+  private ObjectId commit;
+
+  /**
+   * Finds the commit asked about.
+   * 
+   * @param repo the repo
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Setup(Level.Trial)
+  public void commit(SyntheticRepo repo) throws IOException {
+    final List<String> ids = repo.ids();
+    if ("oldest".equals(this.ancestor)) {
+      this.commit = ObjectId.fromString(ids.get(ids.size() - 1));
+    } else {
+      // @checkstyle MagicNumber (1 line)
+      this.commit = ObjectId.fromString(ids.get(Math.min(10, ids.size() - 1)));
+    }
+  }
+
+  /**
+   * {@link RevWalk#isMergedInto}: the history is walked, as done without a bitmap index.
+   * 
+   * @param repo the repo
+   * @return whether the commit is reachable
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public boolean walk(SyntheticRepo repo) throws IOException {
+    try (RevWalk walk = new RevWalk(repo.repository())) {
+      return walk.isMergedInto(
+        walk.parseCommit(this.commit), walk.parseCommit(repo.head().getObjectId())
+      );
+    }
+  }
+
+  /**
+   * {@link Reachability}: answered from the bitmap index written by the repo's last gc.
+   * 
+   * @param repo the repo
+   * @return whether the commit is reachable
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Benchmark
+  public boolean bitmaps(SyntheticRepo repo) throws IOException {
+    try (RevWalk walk = new RevWalk(repo.repository())) {
+      return new Reachability(walk).reachable(
+        walk.parseCommit(this.commit), walk.parseCommit(repo.head().getObjectId())
+      );
+    }
+  }
+}
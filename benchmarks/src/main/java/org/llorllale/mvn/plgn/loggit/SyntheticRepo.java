@@ -0,0 +1,260 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TagBuilder;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A synthetic git repository on local disk, shared by the benchmarks.
+ * 
+ * <p>The {@code master} branch has a linear history of {@link #commits} commits, every
+ * {@link #tagEvery}th of which has an annotated tag {@code v<n>} ({@code n} counting from the
+ * oldest commit). Every commit message has a one-line subject followed by a body of
+ * {@link #messageSize} characters. The repo is packed with a bitmap index, as a real-world
+ * clone would be.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class SyntheticRepo {
+  /**
+   * Number of commits in the repo.
+   */
+  @Param({"100", "1000", "10000"})
+  public int commits;
+
+  /**
+   * Every how many commits there is a tag.
+   */
+  @Param("10")
+  public int tagEvery;
+
+  /**
+   * Size of each commit message's body, in characters.
+   */
+  @Param("200")
+  public int messageSize;
+
+  private Path dir;
+  private Repository repo;
+  private XML log;
+
+  /**
+   * Creates the repo.
+   * 
+   * @throws IOException if the repo cannot be created
+   * @throws GitAPIException if the repo cannot be created
+   * @since 1.2.0
+   */
+  @Setup(Level.Trial)
+  public void create() throws IOException, GitAPIException {
+    this.dir = Files.createTempDirectory("loggit-bench");
+    final org.eclipse.jgit.api.Git git = org.eclipse.jgit.api.Git.init()
+      .setDirectory(this.dir.toFile())
+      .call();
+    this.repo = git.getRepository();
+    try (ObjectInserter inserter = this.repo.newObjectInserter()) {
+      final ObjectId tree = inserter.insert(new TreeFormatter());
+      ObjectId parent = null;
+      for (int idx = 1; idx <= this.commits; ++idx) {
+        parent = this.commit(inserter, tree, parent, idx);
+      }
+      inserter.flush();
+      this.update(Constants.R_HEADS + Constants.MASTER, parent);
+    }
+    git.gc().call();
+    this.log = new DefaultLog(this.repo, this::head).asXml();
+  }
+
+  /**
+   * Deletes the repo.
+   * 
+   * @throws IOException if the repo cannot be deleted
+   * @since 1.2.0
+   */
+  @TearDown(Level.Trial)
+  public void delete() throws IOException {
+    this.repo.close();
+    try (Stream<Path> files = Files.walk(this.dir)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  /**
+   * The repo's working directory, as configured in the plugin's {@code repo} parameter.
+   * 
+   * @return the working directory
+   * @since 1.2.0
+   */
+  public File directory() {
+    return this.dir.toFile();
+  }
+
+  /**
+   * The repo.
+   * 
+   * @return the repo
+   * @since 1.2.0
+   */
+  public Repository repository() {
+    return this.repo;
+  }
+
+  /**
+   * The {@code master} branch.
+   * 
+   * @return the branch's ref
+   * @throws IOException if the ref cannot be read
+   * @since 1.2.0
+   */
+  public org.eclipse.jgit.lib.Ref head() throws IOException {
+    return this.repo.findRef(Constants.MASTER);
+  }
+
+  /**
+   * The log of the {@code master} branch as XML, computed once.
+   * 
+   * @return the log's XML
+   * @since 1.2.0
+   */
+  public XML xml() {
+    return this.log;
+  }
+
+  /**
+   * The tag of the commit that is {@code percent}% of the way from the head to the oldest
+   * commit.
+   * 
+   * @param percent how far from the head
+   * @return the tag's name
+   * @since 1.2.0
+   */
+  public String tag(int percent) {
+    final int nth = (this.commits - this.commits * percent / 100) / this.tagEvery * this.tagEvery;
+    return String.format("v%d", Math.max(this.tagEvery, nth));
+  }
+
+  /**
+   * The ids of all commits, newest first.
+   * 
+   * @return the ids
+   * @throws IOException if the repo cannot be read
+   * @since 1.2.0
+   */
+  public List<String> ids() throws IOException {
+    final List<String> ids = new ArrayList<>(this.commits);
+    for (Commit commit : new DefaultLog(this.repo, this::head).commits()) {
+      ids.add(commit.id());
+    }
+    return Collections.unmodifiableList(ids);
+  }
+
+  /**
+   * Inserts the {@code nth} commit, tagging it if needed.
+   * 
+   * @param inserter the inserter
+   * @param tree the commit's tree
+   * @param parent the parent commit, or {@code null} for the first commit
+   * @param nth the commit's number, counting from the oldest
+   * @return the commit's id
+   * @throws IOException if the commit cannot be inserted
+   */
+  private ObjectId commit(
+    ObjectInserter inserter, ObjectId tree, ObjectId parent, int nth
+  ) throws IOException {
+    final PersonIdent author = new PersonIdent(
+      String.format("author%d", nth % 7), String.format("author%d@test.com", nth % 7),
+      new Date(1_500_000_000_000L + nth * 60_000L), TimeZone.getTimeZone("UTC")
+    );
+    final CommitBuilder builder = new CommitBuilder();
+    builder.setTreeId(tree);
+    if (parent != null) {
+      builder.setParentId(parent);
+    }
+    builder.setAuthor(author);
+    builder.setCommitter(author);
+    builder.setMessage(String.format("Commit #%d\n\n%s\n", nth, this.body(nth)));
+    final ObjectId id = inserter.insert(builder);
+    if (nth % this.tagEvery == 0) {
+      final TagBuilder tag = new TagBuilder();
+      tag.setObjectId(id, Constants.OBJ_COMMIT);
+      tag.setTag(String.format("v%d", nth));
+      tag.setTagger(author);
+      tag.setMessage(String.format("Release %d", nth));
+      this.update(Constants.R_TAGS + tag.getTag(), inserter.insert(tag));
+    }
+    return id;
+  }
+
+  /**
+   * A commit message body.
+   * 
+   * @param nth the commit's number
+   * @return the body, {@link #messageSize} characters long
+   */
+  private String body(int nth) {
+    final String words = String.format("Lorem ipsum dolor sit amet %d. ", nth);
+    final StringBuilder body = new StringBuilder(this.messageSize + words.length());
+    while (body.length() < this.messageSize) {
+      body.append(words);
+    }
+    body.setLength(this.messageSize);
+    return body.toString();
+  }
+
+  /**
+   * Points a ref to an object.
+   * 
+   * @param name the ref's name
+   * @param id the object's id
+   * @throws IOException if the ref cannot be updated
+   */
+  private void update(String name, ObjectId id) throws IOException {
+    final RefUpdate update = this.repo.updateRef(name);
+    update.setNewObjectId(id);
+    update.forceUpdate();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xembly.Directive;
+
+/**
+ * Benchmarks for resolving the tags of every commit of a log with {@link TagsOf}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TagsOfBenchmark {
+  private final List<RevCommit> commits = new ArrayList<>();
+
+  /**
+   * Reads all the commits of the repo.
+   * 
+   * @param repo the repo
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Setup(Level.Trial)
+  public void walk(SyntheticRepo repo) throws IOException {
+    try (RevWalk walk = new RevWalk(repo.repository())) {
+      walk.markStart(walk.parseCommit(repo.head().getObjectId()));
+      walk.forEach(this.commits::add);
+    }
+  }
+
+  /**
+   * Each commit builds its own index of the repo's tags.
+   * 
+   * @param repo the repo
+   * @param hole the blackhole
+   * @since 1.2.0
+   */
+  @Benchmark
+  public void indexPerCommit(SyntheticRepo repo, Blackhole hole) {
+    for (RevCommit commit : this.commits) {
+      for (Directive dir : new TagsOf(repo.repository(), commit)) {
+        hole.consume(dir);
+      }
+    }
+  }
+
+  /**
+   * All commits share one index of the repo's tags, as {@link DefaultLog} does.
+   * 
+   * @param repo the repo
+   * @param hole the blackhole
+   * @since 1.2.0
+   */
+  @Benchmark
+  public void sharedIndex(SyntheticRepo repo, Blackhole hole) {
+    final Tags tags = new Tags(repo.repository());
+    for (RevCommit commit : this.commits) {
+      for (Directive dir : new TagsOf(tags, commit)) {
+        hole.consume(dir);
+      }
+    }
+  }
+}
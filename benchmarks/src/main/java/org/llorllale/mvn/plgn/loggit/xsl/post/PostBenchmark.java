@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl.post;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.ResourceOf;
+import org.llorllale.mvn.plgn.loggit.SyntheticRepo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the post-processing stylesheets, each applied to the whole log.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PostBenchmark {
+  /**
+   * {@link Identity}.
+   * 
+   * @param repo the repo
+   * @return the post-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public String identity(SyntheticRepo repo) {
+    return new Identity().applyTo(repo.xml());
+  }
+
+  /**
+   * {@link Markdown}.
+   * 
+   * @param repo the repo
+   * @return the post-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public String markdown(SyntheticRepo repo) {
+    return new Markdown().applyTo(repo.xml());
+  }
+
+  /**
+   * {@link Custom}, with the stylesheet this project uses for its own release notes.
+   * 
+   * @param repo the repo
+   * @return the post-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public String custom(SyntheticRepo repo) {
+    return new Custom(new ResourceOf("custom.xsl")).applyTo(repo.xml());
+  }
+}
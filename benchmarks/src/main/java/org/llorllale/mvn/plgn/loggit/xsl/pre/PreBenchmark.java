@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl.pre;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.llorllale.mvn.plgn.loggit.SyntheticRepo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the pre-processing stylesheets, each applied to the whole log.
+ * 
+ * <p>Tags and commits are picked half-way through the history.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PreBenchmark {
+  private String tag;
+  private String commit;
+
+  /**
+   * Picks the tag and commit at which to stop.
+   * 
+   * @param repo the repo
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Setup(Level.Trial)
+  public void pick(SyntheticRepo repo) throws IOException {
+    this.tag = repo.tag(50);
+    this.commit = repo.ids().get(repo.commits / 2);
+  }
+
+  /**
+   * {@link Limit}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML limit(SyntheticRepo repo) {
+    return new Limit(repo.commits / 2).transform(repo.xml());
+  }
+
+  /**
+   * {@link StartTag}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML startTag(SyntheticRepo repo) {
+    return new StartTag(this.tag).transform(repo.xml());
+  }
+
+  /**
+   * {@link EndTag}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML endTag(SyntheticRepo repo) {
+    return new EndTag(this.tag).transform(repo.xml());
+  }
+
+  /**
+   * {@link StartCommit}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML startCommit(SyntheticRepo repo) {
+    return new StartCommit(this.commit).transform(repo.xml());
+  }
+
+  /**
+   * {@link Include}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML include(SyntheticRepo repo) {
+    return new Include("#\\d*5$", "m").transform(repo.xml());
+  }
+
+  /**
+   * {@link Exclude}.
+   * 
+   * @param repo the repo
+   * @return the pre-processed log
+   * @since 1.2.0
+   */
+  @Benchmark
+  public XML exclude(SyntheticRepo repo) {
+    return new Exclude("#\\d*5$", "m").transform(repo.xml());
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.util.function.Function;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+
+/**
+ * Keeps only the commits whose author matches a regex, and drops those whose author
+ * matches another, like {@code git log --author}.
+ * 
+ * <p>The regexes are XPath regexes, like those of the {@code includeRegex} and
+ * {@code excludeRegex} configs, found anywhere in the author's {@code Name <email>}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Authors implements WalkFilter {
+  private static final Function<RevCommit, String> AUTHOR = commit -> {
+    final PersonIdent author = commit.getAuthorIdent();
+    return String.format("%s <%s>", author.getName(), author.getEmailAddress());
+  };
+
+  private final String include;
+  private final String exclude;
+
+  /**
+   * Ctor.
+   * 
+   * @param include the regex of the authors kept, or empty to keep all
+   * @param exclude the regex of the authors dropped, or empty to drop none
+   * @since 1.2.0
+   */
+  Authors(String include, String exclude) {
+    this.include = include;
+    this.exclude = exclude;
+  }
+
+  @Override
+  public void apply(RevWalk walk) {
+    this.apply(walk, this.include, true);
+    this.apply(walk, this.exclude, false);
+  }
+
+  /**
+   * Adds a filter on the authors to the walk, unless the regex is empty.
+   * 
+   * @param walk the walk
+   * @param regex the regex
+   * @param matching {@code true} to keep the commits with a match, {@code false} to keep
+   *     those without one
+   */
+  private void apply(RevWalk walk, String regex, boolean matching) {
+    if (!regex.isEmpty()) {
+      walk.setRevFilter(
+        AndRevFilter.create(
+          walk.getRevFilter(),
+          new MatchingRevFilter(AUTHOR, new Regex(regex, ""), matching)
+        )
+      );
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.File;
+
+/**
+ * The file to which a branch's changelog is written: the base file with the branch's name
+ * appended to its name, before the extension (eg. {@code gitlog-master.xml}).
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class BranchFile {
+  private final File base;
+  private final String branch;
+
+  /**
+   * Ctor.
+   * 
+   * @param base the base file
+   * @param branch the branch
+   * @since 1.2.0
+   */
+  BranchFile(File base, String branch) {
+    this.base = base;
+    this.branch = branch;
+  }
+
+  /**
+   * The branch's file.
+   * 
+   * @return the file
+   * @since 1.2.0
+   */
+  File value() {
+    final String name = this.base.getName();
+    final String suffix = this.branch.replaceAll("[^\\w.-]", "_");
+    final int dot = name.lastIndexOf('.');
+    final String file;
+    if (dot > 0) {
+      file = String.format("%s-%s%s", name.substring(0, dot), suffix, name.substring(dot));
+    } else {
+      file = String.format("%s-%s", name, suffix);
+    }
+    return new File(this.base.getParentFile(), file);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+
+/**
+ * A {@link Git} whose log is cached on disk between runs.
+ * 
+ * <p>Each repo and ref has its own cache file, named after the ref and a hash of the repo's
+ * canonical path, so that several repos can share a cache directory.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see CachedLog
+ * @since 1.2.0
+ */
+final class CachedGit implements Git {
+  private static final int HASH = 12;
+
+  private final Repositories repos;
+  private final Path path;
+  private final String ref;
+  private final Path cache;
+
+  /**
+   * Ctor.
+   * 
+   * @param path path to the repo's dir
+   * @param ref the ref to point to in order to fetch the log
+   * @param cache the directory where the log is cached
+   * @since 1.2.0
+   */
+  CachedGit(Path path, String ref, Path cache) {
+    this(new Repositories(), path, ref, cache);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repos the pool from which the repo is opened
+   * @param path path to the repo's dir
+   * @param ref the ref to point to in order to fetch the log
+   * @param cache the directory where the log is cached
+   * @since 1.2.0
+   */
+  CachedGit(Repositories repos, Path path, String ref, Path cache) {
+    this.repos = repos;
+    this.path = path;
+    this.ref = ref;
+    this.cache = cache;
+  }
+
+  @Override
+  public Log log() throws IOException {
+    final Repository repo = this.repos.open(this.path);
+    Files.createDirectories(this.cache);
+    return new CachedLog(
+      this.file(repo),
+      repo,
+      () -> repo.findRef(this.ref),
+      new Tags(repo)
+    );
+  }
+
+  /**
+   * The cache file of the repo's ref.
+   * 
+   * @param repo the repo
+   * @return the cache file
+   * @throws IOException if the repo's canonical path cannot be found
+   */
+  private Path file(Repository repo) throws IOException {
+    return this.cache.resolve(
+      String.format(
+        "%s-%s.log",
+        this.ref.replaceAll("[^\\w.-]", "_"),
+        ObjectId.fromRaw(
+          Constants.newMessageDigest().digest(
+            repo.getDirectory().getCanonicalPath().getBytes(StandardCharsets.UTF_8)
+          )
+        ).abbreviate(CachedGit.HASH).name()
+      )
+    );
+  }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * A {@link Log} backed by an on-disk cache of the ref's history.
+ * 
+ * <p>The cache holds the raw commits that were read on the previous runs, newest first. Only
+ * the commits between the ref's head and the newest cached commit are read from the repo;
+ * they come before the cached ones, which are read from the cache one at a time, as they are
+ * needed: pre-processing that stops early never reads the rest of the cache. If the newest
+ * cached commit is no longer part of the ref's history (eg. after a force-push) the whole
+ * history is read again. The cache is rewritten only if new commits were read.
+ * 
+ * <p>Commits are addressed by their content, so a stale cache can never produce a wrong
+ * commit. Tags are not cached: they are resolved from the repo on every run.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class CachedLog extends LogEnvelope {
+  private static final String FORMAT = "loggit-cache-1";
+
+  /**
+   * Ctor.
+   * 
+   * @param file the cache file, in an existing directory
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @since 1.2.0
+   */
+  CachedLog(Path file, Repository repo, Scalar<Ref> ref, Tags tags) {
+    this(file, repo, ref, tags, new Streams());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param file the cache file, in an existing directory
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @param streams the cache's streams opened, closed with this log
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private CachedLog(Path file, Repository repo, Scalar<Ref> ref, Tags tags, Streams streams) {
+    super(() -> new Mapped<>(
+      commit -> new DefaultCommit(tags, commit),
+      CachedLog.history(file, repo, CachedLog.head(new IoCheckedScalar<>(ref)), streams)
+    ), streams);
+  }
+
+  /**
+   * The ref's head.
+   * 
+   * @param ref the ref
+   * @return the commit the ref points to
+   * @throws IOException if {@code ref} is invalid
+   */
+  private static ObjectId head(IoCheckedScalar<Ref> ref) throws IOException {
+    try {
+      return ref.value().getObjectId();
+    } catch (NullPointerException e) {
+      throw new IOException("Invalid ref provided", e);
+    }
+  }
+
+  /**
+   * The history of {@code head}: the commits read from the repo, followed by the cached ones.
+   * The cache is updated if commits were read from the repo.
+   * 
+   * @param file the cache file
+   * @param repo the repo
+   * @param head the ref's head
+   * @param streams where the cache's streams are registered, to be closed with the log
+   * @return the commits reachable from {@code head}, newest first
+   * @throws IOException if an error occurs reading the repo or writing the cache
+   */
+  private static Iterable<RevCommit> history(
+    Path file, Repository repo, ObjectId head, Streams streams
+  ) throws IOException {
+    final List<RevCommit> fresh = new ArrayList<>(1);
+    final boolean reused;
+    try (RevWalk walk = new RevWalk(repo)) {
+      reused = CachedLog.prepare(walk, walk.parseCommit(head), CachedLog.newest(walk, file));
+      walk.forEach(fresh::add);
+    }
+    if (!fresh.isEmpty() || !reused) {
+      CachedLog.write(file, fresh, reused);
+    }
+    return new Joined<>(fresh, new Cached(file, fresh.size(), streams));
+  }
+
+  /**
+   * Prepares {@code walk} to read the commits from {@code start} that are not cached.
+   * Reachability is answered from the repo's bitmap index, if it has one.
+   * 
+   * @param walk the walk
+   * @param start the ref's head
+   * @param newest the newest cached commit, if any
+   * @return {@code true} if the cached commits are part of the history of {@code start};
+   *     otherwise the cache is discarded and the whole history is walked
+   * @throws IOException if an error occurs reading the repo
+   */
+  private static boolean prepare(
+    RevWalk walk, RevCommit start, List<RevCommit> newest
+  ) throws IOException {
+    final boolean reachable = !newest.isEmpty()
+      && new Reachability(walk).reachable(newest.get(0), start);
+    walk.reset();
+    walk.markStart(start);
+    if (reachable) {
+      walk.markUninteresting(newest.get(0));
+    }
+    return reachable;
+  }
+
+  /**
+   * The newest cached commit, parsed into the walk from its raw contents. A missing or
+   * unreadable cache has none.
+   * 
+   * @param walk the walk
+   * @param file the cache file
+   * @return the newest cached commit, if any
+   * @throws IOException if the commit cannot be parsed
+   */
+  private static List<RevCommit> newest(RevWalk walk, Path file) throws IOException {
+    final List<RevCommit> newest = new ArrayList<>(1);
+    if (Files.exists(file)) {
+      try (DataInputStream in = CachedLog.input(file)) {
+        if (CachedLog.header(in) > 0) {
+          newest.add(RevCommit.parse(walk, CachedLog.entry(in)));
+        }
+      } catch (IOException e) {
+        newest.clear();
+      }
+    }
+    return newest;
+  }
+
+  /**
+   * Opens the cache file.
+   * 
+   * @param file the cache file
+   * @return its contents
+   * @throws IOException if the file cannot be opened
+   */
+  private static DataInputStream input(Path file) throws IOException {
+    return new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+  }
+
+  /**
+   * Reads the cache's header.
+   * 
+   * @param in the cache's contents
+   * @return the number of cached commits, none if the cache has an unknown format
+   * @throws IOException if the contents cannot be read
+   */
+  private static int header(DataInputStream in) throws IOException {
+    int count = 0;
+    if (FORMAT.equals(in.readUTF())) {
+      count = in.readInt();
+    }
+    return count;
+  }
+
+  /**
+   * Reads the next raw commit from the cache.
+   * 
+   * @param in the cache's contents
+   * @return the raw commit
+   * @throws IOException if the contents cannot be read
+   */
+  private static byte[] entry(DataInputStream in) throws IOException {
+    final byte[] raw = new byte[in.readInt()];
+    in.readFully(raw);
+    return raw;
+  }
+
+  /**
+   * Replaces the cache with {@code fresh}, followed by the commits already cached if they are
+   * kept. These are copied from the current cache as they are, without parsing them. The
+   * cache is written to a temporary file of its own and then atomically moved in place, so
+   * that concurrent runs never read or write a partial cache: the last one to finish wins.
+   * 
+   * @param file the cache file
+   * @param fresh the commits read from the repo, newest first
+   * @param kept whether the commits already cached are kept
+   * @throws IOException if an error occurs reading or writing the cache
+   */
+  private static void write(Path file, List<RevCommit> fresh, boolean kept) throws IOException {
+    final Path tmp = Files.createTempFile(
+      file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp"
+    );
+    try {
+      try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(tmp))
+      )) {
+        out.writeUTF(FORMAT);
+        if (kept) {
+          CachedLog.append(file, fresh, out);
+        } else {
+          out.writeInt(fresh.size());
+          CachedLog.entries(fresh, out);
+        }
+      }
+      Files.move(
+        tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+      );
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Writes {@code fresh} followed by the commits of the current cache.
+   * 
+   * @param file the current cache file
+   * @param fresh the commits read from the repo, newest first
+   * @param out where to write the commits
+   * @throws IOException if an error occurs reading or writing the cache
+   */
+  private static void append(
+    Path file, List<RevCommit> fresh, DataOutputStream out
+  ) throws IOException {
+    try (DataInputStream in = CachedLog.input(file)) {
+      out.writeInt(fresh.size() + CachedLog.header(in));
+      CachedLog.entries(fresh, out);
+      // @checkstyle MagicNumber (1 line)
+      final byte[] buffer = new byte[8192];
+      for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+        out.write(buffer, 0, read);
+      }
+    }
+  }
+
+  /**
+   * Writes raw commits.
+   * 
+   * @param commits the commits
+   * @param out where to write them
+   * @throws IOException if an error occurs writing
+   */
+  private static void entries(List<RevCommit> commits, DataOutputStream out) throws IOException {
+    for (RevCommit commit : commits) {
+      final byte[] raw = commit.getRawBuffer();
+      out.writeInt(raw.length);
+      out.write(raw);
+    }
+  }
+
+  /**
+   * The streams opened by a log to read its cache, closed with it whether or not all their
+   * commits were read.
+   */
+  private static final class Streams implements Closeable {
+    private final List<InputStream> opened = new ArrayList<>(1);
+
+    /**
+     * Registers a stream.
+     * 
+     * @param stream the stream
+     * @return the stream
+     */
+    synchronized DataInputStream opened(DataInputStream stream) {
+      this.opened.add(stream);
+      return stream;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      for (InputStream stream : this.opened) {
+        stream.close();
+      }
+      this.opened.clear();
+    }
+  }
+
+  /**
+   * The cached commits, read from the cache file one at a time. The file is closed once all
+   * its commits have been read, before the log is closed.
+   */
+  private static final class Cached implements Iterable<RevCommit> {
+    private final Path file;
+    private final int skipped;
+    private final Streams streams;
+
+    /**
+     * Ctor.
+     * 
+     * @param file the cache file
+     * @param skipped how many of its newest commits are skipped, as they were read from the
+     *     repo on this run
+     * @param streams where the file's streams are registered
+     */
+    Cached(Path file, int skipped, Streams streams) {
+      this.file = file;
+      this.skipped = skipped;
+      this.streams = streams;
+    }
+
+    @Override
+    public Iterator<RevCommit> iterator() {
+      try {
+        final DataInputStream contents = this.streams.opened(CachedLog.input(this.file));
+        final int count = CachedLog.header(contents);
+        for (int idx = 0; idx < this.skipped && idx < count; ++idx) {
+          CachedLog.entry(contents);
+        }
+        return new Entries(contents, count - this.skipped);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot read the cache", e);
+      }
+    }
+  }
+
+  /**
+   * The commits left in a cache's contents.
+   */
+  private static final class Entries implements Iterator<RevCommit> {
+    private final DataInputStream in;
+    private int left;
+
+    /**
+     * Ctor.
+     * 
+     * @param in the cache's contents
+     * @param left how many commits are left
+     */
+    Entries(DataInputStream in, int left) {
+      this.in = in;
+      this.left = left;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.left <= 0) {
+        try {
+          this.in.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException("Cannot close the cache", e);
+        }
+      }
+      return this.left > 0;
+    }
+
+    @Override
+    public RevCommit next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      --this.left;
+      return this.read();
+    }
+
+    /**
+     * Reads the next commit.
+     * 
+     * @return the commit
+     */
+    private RevCommit read() {
+      try {
+        return RevCommit.parse(CachedLog.entry(this.in));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot read the next cached commit", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.util.Collection;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+/**
+ * Keeps only the commits that changed any of the given paths, like {@code git log -- paths}.
+ * 
+ * <p>Each commit's tree is compared with its parents' only under the given paths: subtrees
+ * elsewhere are skipped by their ids without being read. Without paths, all commits are kept
+ * and no trees are read at all.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class ChangedPaths implements WalkFilter {
+  private final Collection<String> paths;
+
+  /**
+   * Ctor.
+   * 
+   * @param paths the paths, relative to the repo's root
+   * @since 1.2.0
+   */
+  ChangedPaths(Collection<String> paths) {
+    this.paths = paths;
+  }
+
+  @Override
+  public void apply(RevWalk walk) {
+    if (!this.paths.isEmpty()) {
+      walk.setTreeFilter(
+        AndTreeFilter.create(PathFilterGroup.createFromStrings(this.paths), TreeFilter.ANY_DIFF)
+      );
+      walk.setRewriteParents(false);
+    }
+  }
+}
@@ -16,31 +16,32 @@
 
 package org.llorllale.mvn.plgn.loggit;
 
-import com.jcabi.xml.XML;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.cactoos.io.InputOf;
-import org.cactoos.io.LengthOf;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
-import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
 import org.eclipse.jgit.lib.Constants;
-import org.llorllale.mvn.plgn.loggit.xsl.post.Custom;
-import org.llorllale.mvn.plgn.loggit.xsl.post.Identity;
-import org.llorllale.mvn.plgn.loggit.xsl.post.Markdown;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.EndTag;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.Exclude;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.Include;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.Limit;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.StartCommit;
-import org.llorllale.mvn.plgn.loggit.xsl.pre.StartTag;
+import org.eclipse.jgit.lib.Repository;
+import org.llorllale.mvn.plgn.loggit.pre.EndTag;
+import org.llorllale.mvn.plgn.loggit.pre.Exclude;
+import org.llorllale.mvn.plgn.loggit.pre.Include;
+import org.llorllale.mvn.plgn.loggit.pre.Limit;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+import org.llorllale.mvn.plgn.loggit.pre.StartCommit;
+import org.llorllale.mvn.plgn.loggit.pre.StartTag;
 
 /**
  * Changelog.
@@ -52,7 +53,8 @@ import org.llorllale.mvn.plgn.loggit.xsl.pre.StartTag;
 @SuppressWarnings(
   {
     "checkstyle:MultipleStringLiterals",
-    "checkstyle:ClassDataAbstractionCoupling"
+    "checkstyle:ClassDataAbstractionCoupling",
+    "checkstyle:ClassFanOutComplexity"
   }
 )
 public final class Changelog extends AbstractMojo {
@@ -75,6 +77,27 @@ public final class Changelog extends AbstractMojo {
   @Parameter(name = "branch", defaultValue = Constants.MASTER, property = "loggit.branch")
   private String branch;
 
+  @Parameter(name = "branches", property = "loggit.branches")
+  private List<String> branches = new ArrayList<>(0);
+
+  @Parameter(name = "range", defaultValue = "", property = "loggit.range")
+  private String range = "";
+
+  @Parameter(name = "paths", property = "loggit.paths")
+  private List<String> paths = new ArrayList<>(0);
+
+  @Parameter(name = "since", defaultValue = "", property = "loggit.since")
+  private String since = "";
+
+  @Parameter(name = "until", defaultValue = "", property = "loggit.until")
+  private String until = "";
+
+  @Parameter(name = "includeAuthor", defaultValue = "", property = "loggit.includeAuthor")
+  private String includeAuthor = "";
+
+  @Parameter(name = "excludeAuthor", defaultValue = "", property = "loggit.excludeAuthor")
+  private String excludeAuthor = "";
+
   @Parameter(name = "maxEntries", defaultValue = "2147483647", property = "loggit.maxEntries")
   private int maxEntries;
 
@@ -99,6 +122,43 @@ public final class Changelog extends AbstractMojo {
   @Parameter(name = "startCommit", defaultValue = "", property = "loggit.startCommit")
   private String startCommit = "";
 
+  @Parameter(name = "validation", defaultValue = "strict", property = "loggit.validation")
+  private String validation = "strict";
+
+  @Parameter(name = "fields", defaultValue = "", property = "loggit.fields")
+  private String fields = "";
+
+  @Parameter(name = "threads", defaultValue = "1", property = "loggit.threads")
+  private int threads = 1;
+
+  @Parameter(name = "cacheDirectory", property = "loggit.cacheDirectory")
+  private File cacheDirectory;
+
+  @Parameter(name = "metricsFile", property = "loggit.metricsFile")
+  private File metricsFile;
+
+  @Parameter(name = "packedGitLimit", defaultValue = "", property = "loggit.packedGitLimit")
+  private String packedGitLimit = "";
+
+  @Parameter(
+    name = "packedGitWindowSize", defaultValue = "", property = "loggit.packedGitWindowSize"
+  )
+  @SuppressWarnings("checkstyle:MemberName")
+  private String packedGitWindowSize = "";
+
+  @Parameter(
+    name = "deltaBaseCacheLimit", defaultValue = "", property = "loggit.deltaBaseCacheLimit"
+  )
+  @SuppressWarnings("checkstyle:MemberName")
+  private String deltaBaseCacheLimit = "";
+
+  @Parameter(name = "packedGitMMAP", defaultValue = "", property = "loggit.packedGitMMAP")
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  private String packedGitMMAP = "";
+
+  @Parameter(defaultValue = "${session}", readonly = true)
+  private MavenSession session;
+
   /**
    * Ctor.
    * 
@@ -258,23 +318,63 @@ public final class Changelog extends AbstractMojo {
 
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
+    if (this.session == null) {
+      try (Repositories repos = new Repositories()) {
+        this.execute(repos, new Changelogs());
+      }
+    } else {
+      this.execute(
+        new SessionRepositories(this.session).value(),
+        new SessionChangelogs(this.session).value()
+      );
+    }
+  }
+
+  /**
+   * Writes the changelog of the {@code branch}, or one changelog per ref of {@code branches}
+   * from a single walk of their union. A changelog already written by another module with
+   * the same configuration is copied instead.
+   * 
+   * @param repos the pool from which the repo is opened
+   * @param written the changelogs already written
+   * @throws MojoFailureException if a changelog cannot be written
+   */
+  private void execute(Repositories repos, Changelogs written) throws MojoFailureException {
+    final Metrics metrics = new Metrics();
     try {
-      new IoCheckedScalar<>(
-        new LengthOf(
-          new TeeInput(
-            new InputOf(
-              this.postprocess(
-                this.preprocess(
-                  new DefaultGit(
-                    this.repo.toPath().resolve(Constants.DOT_GIT), this.branch
-                  ).log().asXml()
-                )
-              )
-            ),
-            new OutputTo(this.outputFile)
-          )
+      new PackCache(
+        this.repo.toPath().resolve(Constants.DOT_GIT),
+        new MapOf<>(
+          new MapEntry<>("packedGitLimit", this.packedGitLimit),
+          new MapEntry<>("packedGitWindowSize", this.packedGitWindowSize),
+          new MapEntry<>("deltaBaseCacheLimit", this.deltaBaseCacheLimit),
+          new MapEntry<>("packedGitMMAP", this.packedGitMMAP)
         )
-      ).value();
+      ).install();
+      final Repository git = repos.open(this.repo.toPath().resolve(Constants.DOT_GIT));
+      final Fields needed = new Fields(this.format, this.validation, this.fields);
+      final Range commits = new Range(git, this.range);
+      final Format out = new Format(
+        this.format, this.customFormatFile,
+        new Validation(this.validation, metrics, this.threads), needed
+      );
+      if (this.branches.isEmpty()) {
+        written.write(
+          this.key(git, commits.end(this.branch)), this.outputFile,
+          file -> out.write(this.git(repos, commits, needed).log(), this::preprocess, file, metrics)
+        );
+      } else {
+        final UnionLogs logs = new UnionLogs(git, this.branches, this.walk(needed, commits));
+        for (String ref : this.branches) {
+          written.write(
+            this.key(git, ref), new BranchFile(this.outputFile, ref).value(),
+            file -> out.write(logs.log(ref), this::preprocess, file, metrics)
+          );
+        }
+      }
+      metrics.report(
+        line -> this.getLog().debug(String.format("loggit %s", line)), this.metricsFile
+      );
     } catch (IOException e) {
       throw new MojoFailureException(
         String.format("Cannot save XML from repo %s to file %s", this.repo, this.outputFile),
@@ -284,38 +384,113 @@ public final class Changelog extends AbstractMojo {
   }
 
   /**
-   * Transforms the XML using a stylesheet.
+   * Everything that affects the contents of a ref's changelog: the repo, the commit the ref
+   * points to and the configuration, except where the changelog is written to.
+   * 
+   * @param git the repo
+   * @param ref the ref
+   * @return the changelog's key
+   * @throws IOException if the repo cannot be read
+   */
+  private List<Object> key(Repository git, String ref) throws IOException {
+    return Arrays.asList(
+      git.getDirectory().getCanonicalPath(), ref, git.resolve(ref), this.format,
+      this.customFormatFile, Optional.ofNullable(this.customFormatFile).map(File::lastModified),
+      this.maxEntries, this.startTag, this.endTag, this.includeRegex, this.includeRegexFlags,
+      this.excludeRegex, this.excludeRegexFlags, this.startCommit, this.validation, this.fields,
+      this.range, this.paths, this.since, this.until, this.includeAuthor, this.excludeAuthor
+    );
+  }
+
+  /**
+   * What the walk reads: only the commits in the {@code range}, between {@code since} and
+   * {@code until}, by the authors given and that changed any of the {@code paths}, and their
+   * bodies only if a field or a regex filter reads them. The regexes filter the commits as
+   * they are walked if nothing before them in {@link #preprocess(Log)} needs to see the
+   * commits they drop.
+   * 
+   * @param needed the fields of each commit that the format needs
+   * @param commits the range of commits walked
+   * @return the walk's filter
+   * @throws IOException if a field's name is unknown
+   */
+  private WalkFilter walk(Fields needed, Range commits) throws IOException {
+    final boolean bodies =
+      !".*".equals(this.includeRegex) || !".*".equals(this.excludeRegex) || needed.body();
+    return new WalkFilters(
+      walk -> walk.setRetainBody(bodies), commits, new CommitTimes(this.since, this.until),
+      new Authors(this.includeAuthor, this.excludeAuthor), new ChangedPaths(this.paths),
+      new Messages(new Regex(this.early(this.includeRegex), this.includeRegexFlags), true),
+      new Messages(new Regex(this.early(this.excludeRegex), this.excludeRegexFlags), false)
+    );
+  }
+
+  /**
+   * The regex that filters the commits as they are walked: {@code .*}, which filters none,
+   * unless the log is walked in full.
+   * 
+   * @param regex the configured regex
+   * @return the regex to apply to the walk
+   */
+  private String early(String regex) {
+    String result = ".*";
+    if (this.maxEntries == Integer.MAX_VALUE
+      && Stream.of(this.startTag, this.endTag, this.startCommit).allMatch(""::equals)) {
+      result = regex;
+    }
+    return result;
+  }
+
+  /**
+   * Whether the walk selects commits by range, paths, dates or authors, unlike the cache.
+   * 
+   * @return {@code true} if so
+   */
+  private boolean selective() {
+    return !this.paths.isEmpty() || !Stream.of(
+      this.range, this.since, this.until, this.includeAuthor, this.excludeAuthor
+    ).allMatch(""::equals);
+  }
+
+  /**
+   * The git repo, with its log cached if a {@code cacheDirectory} is configured and the walk
+   * doesn't select commits by themselves. Without a cache the walk reads only what's needed.
    * 
-   * @param original the original XML
-   * @return the transformed XML
-   * @throws IOException if there's an issue reading the stylesheet
+   * @param repos the pool from which the repo is opened
+   * @param commits the range of commits read
+   * @param needed the fields of each commit that the format needs
+   * @return the git repo
+   * @throws IOException if the range is invalid or a field's name is unknown
    */
-  private String postprocess(XML original) throws IOException {
-    final String output;
-    if ("markdown".equals(this.format)) {
-      output = new Markdown().applyTo(original);
-    } else if ("custom".equals(this.format)) {
-      output = new Custom(new InputOf(this.customFormatFile)).applyTo(original);
+  private Git git(Repositories repos, Range commits, Fields needed) throws IOException {
+    final Path path = this.repo.toPath().resolve(Constants.DOT_GIT);
+    final Git git;
+    if (this.cacheDirectory == null || this.selective()) {
+      git = new DefaultGit(repos, path, commits.end(this.branch), this.walk(needed, commits));
     } else {
-      output = new Identity().applyTo(original);
+      git = new CachedGit(repos, path, this.branch, this.cacheDirectory.toPath());
     }
-    return output;
+    return git;
   }
 
   /**
-   * Pre-processes the XML log.
+   * Pre-processes the log's commits.
    * 
-   * @param xml original xml
-   * @return the preprocessed XML
-   * @throws IOException if there's an error during the transformation
+   * @param log the original log
+   * @return the pre-processed log
    */
-  private XML preprocess(XML xml) throws IOException {
-    return new Exclude(this.excludeRegex, this.excludeRegexFlags).transform(
-      new Include(this.includeRegex, this.includeRegexFlags).transform(
-        new StartCommit(this.startCommit).transform(
-          new EndTag(Optional.ofNullable(this.endTag).orElse("")).transform(
-            new StartTag(Optional.ofNullable(this.startTag).orElse("")).transform(
-              new Limit(this.maxEntries).transform(xml)
+  private Log preprocess(Log log) {
+    return new Exclude(
+      this.excludeRegex, this.excludeRegexFlags,
+      new Include(
+        this.includeRegex, this.includeRegexFlags,
+        new StartCommit(
+          this.startCommit,
+          new EndTag(
+            Optional.ofNullable(this.endTag).orElse(""),
+            new StartTag(
+              Optional.ofNullable(this.startTag).orElse(""),
+              new Limit(this.maxEntries, log)
             )
           )
         )
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.cactoos.Proc;
+import org.cactoos.func.IoCheckedProc;
+
+/**
+ * Changelogs already written, by the configuration they were written with.
+ * 
+ * <p>The first time a configuration is asked for, its changelog is written to the file and
+ * the file's path is kept. Thereafter that file is copied instead, without reading the log
+ * again and without holding any changelog in memory. If that file is gone by then, the
+ * changelog is written again. When kept for a whole Maven session, every module of the reactor
+ * that has the same configuration gets its changelog for the cost of a single module.
+ * 
+ * <p>Modules built in parallel that ask for a changelog being written wait for it. If it
+ * fails, they each write it again with their own writer.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Changelogs {
+  private final ConcurrentMap<List<Object>, CompletableFuture<Path>> written;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.2.0
+   */
+  Changelogs() {
+    this.written = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Writes the changelog of a configuration to {@code output}.
+   * 
+   * @param key the configuration, which must cover everything that affects the changelog's
+   *     contents
+   * @param output the file to write to
+   * @param writer writes the changelog to a file, if it wasn't written before
+   * @throws IOException if the changelog cannot be written
+   * @since 1.2.0
+   */
+  void write(List<Object> key, File output, Proc<File> writer) throws IOException {
+    final CompletableFuture<Path> first = new CompletableFuture<>();
+    final CompletableFuture<Path> previous = this.written.putIfAbsent(key, first);
+    if (previous == null) {
+      this.first(key, first, output, writer);
+    } else if (Changelogs.succeeded(previous) && Files.exists(previous.join())) {
+      Files.createDirectories(output.getAbsoluteFile().getParentFile().toPath());
+      Files.copy(previous.join(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      this.written.remove(key, previous);
+      this.write(key, output, writer);
+    }
+  }
+
+  /**
+   * Writes a changelog for the first time. If it fails, it is forgotten before those
+   * waiting for it are told, so that it can be attempted again.
+   * 
+   * @param key the configuration
+   * @param first the changelog's file, once written
+   * @param output the file to write to
+   * @param writer writes the changelog to a file
+   * @throws IOException if the changelog cannot be written
+   */
+  private void first(
+    List<Object> key, CompletableFuture<Path> first, File output, Proc<File> writer
+  ) throws IOException {
+    try {
+      new IoCheckedProc<>(writer).exec(output);
+      first.complete(output.toPath().toAbsolutePath());
+    } finally {
+      if (!first.isDone()) {
+        this.written.remove(key, first);
+        first.completeExceptionally(new IOException("Cannot write changelog"));
+      }
+    }
+  }
+
+  /**
+   * Waits for a changelog being written by someone else.
+   * 
+   * @param changelog the changelog's file, once written
+   * @return {@code true} if it was written, {@code false} if it failed
+   * @throws IOException if interrupted while waiting
+   */
+  private static boolean succeeded(CompletableFuture<Path> changelog) throws IOException {
+    try {
+      changelog.get();
+      return true;
+    } catch (ExecutionException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a changelog", e);
+    }
+  }
+}
@@ -17,14 +17,92 @@
 package org.llorllale.mvn.plgn.loggit;
 
 import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.time.Instant;
 
 /**
  * A git commit.
+ * 
+ * <p>Each of the commit's fields is read from its {@link #asXml() XML} unless overridden, so
+ * that commits written when the XML was all there was keep working. Implementations that
+ * hold the fields themselves should override them.
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
 public interface Commit {
+  /**
+   * This commit's ID.
+   * 
+   * @return the commit's ID
+   * @since 1.2.0
+   */
+  default String id() {
+    return String.join("", this.asXml().xpath("/commit/id/text()"));
+  }
+
+  /**
+   * The name of this commit's author.
+   * 
+   * @return the author's name
+   * @since 1.2.0
+   */
+  default String author() {
+    return String.join("", this.asXml().xpath("/commit/author/name/text()"));
+  }
+
+  /**
+   * The email address of this commit's author.
+   * 
+   * @return the author's email address
+   * @since 1.2.0
+   */
+  default String email() {
+    return String.join("", this.asXml().xpath("/commit/author/email/text()"));
+  }
+
+  /**
+   * The date this commit was authored.
+   * 
+   * @return the author date
+   * @since 1.2.0
+   */
+  default Instant date() {
+    return Instant.parse(this.asXml().xpath("/commit/author/date/text()").get(0));
+  }
+
+  /**
+   * This commit's short message.
+   * 
+   * @return the short message
+   * @since 1.2.0
+   */
+  default String shortMessage() {
+    return String.join("", this.asXml().xpath("/commit/message/short/text()"));
+  }
+
+  /**
+   * This commit's full message.
+   * 
+   * @return the full message
+   * @since 1.2.0
+   */
+  default String fullMessage() {
+    return String.join("", this.asXml().xpath("/commit/message/full/text()"));
+  }
+
+  /**
+   * The names of the tags pointing to this commit.
+   * 
+   * @return the names of this commit's tags
+   * @throws IOException if an error occurs reading the tags
+   * @since 1.2.0
+   */
+  default Iterable<String> tags() throws IOException {
+    return this.asXml().xpath("/commit/taggedAs/tag/text()");
+  }
+
   /**
    * This {@link Commit} as XML.
    * 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.Date;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
+
+/**
+ * Keeps only the commits committed since and until given moments, both inclusive.
+ * 
+ * <p>The walk emits commits newest first, so it stops at the first commit older than
+ * {@code since} without reading the rest of the history. A commit older than {@code since}
+ * that is followed by newer ones, as after a merge of a long-lived branch, ends the walk
+ * just the same, as with {@code git log --since}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Moment
+ * @since 1.2.0
+ */
+final class CommitTimes implements WalkFilter {
+  private final String since;
+  private final String until;
+
+  /**
+   * Ctor.
+   * 
+   * @param since the oldest commit time, or empty for no limit
+   * @param until the newest commit time, or empty for no limit
+   * @since 1.2.0
+   */
+  CommitTimes(String since, String until) {
+    this.since = since;
+    this.until = until;
+  }
+
+  @Override
+  public void apply(RevWalk walk) throws IOException {
+    if (!this.since.isEmpty()) {
+      walk.setRevFilter(
+        AndRevFilter.create(
+          walk.getRevFilter(),
+          CommitTimeRevFilter.after(Date.from(new Moment(this.since).value()))
+        )
+      );
+    }
+    if (!this.until.isEmpty()) {
+      walk.setRevFilter(
+        AndRevFilter.create(
+          walk.getRevFilter(),
+          CommitTimeRevFilter.before(Date.from(new Moment(this.until).value()))
+        )
+      );
+    }
+  }
+}
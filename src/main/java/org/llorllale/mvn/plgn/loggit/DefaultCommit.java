@@ -19,6 +19,8 @@ package org.llorllale.mvn.plgn.loggit;
 import com.jcabi.xml.StrictXML;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.time.Instant;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.xembly.Directives;
@@ -31,7 +33,7 @@ import org.xembly.Xembler;
  * @since 0.1.0
  */
 final class DefaultCommit implements Commit {
-  private final Repository repo;
+  private final Tags tags;
   private final RevCommit rev;
 
   /**
@@ -42,10 +44,56 @@ final class DefaultCommit implements Commit {
    * @since 0.5.0
    */
   DefaultCommit(Repository repo, RevCommit rev) {
-    this.repo = repo;
+    this(new Tags(repo), rev);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param tags the repository's tags
+   * @param rev the git rev
+   * @since 1.2.0
+   */
+  DefaultCommit(Tags tags, RevCommit rev) {
+    this.tags = tags;
     this.rev = rev;
   }
 
+  @Override
+  public String id() {
+    return this.rev.getId().getName();
+  }
+
+  @Override
+  public String author() {
+    return this.rev.getAuthorIdent().getName();
+  }
+
+  @Override
+  public String email() {
+    return this.rev.getAuthorIdent().getEmailAddress();
+  }
+
+  @Override
+  public Instant date() {
+    return this.rev.getAuthorIdent().getWhen().toInstant();
+  }
+
+  @Override
+  public String shortMessage() {
+    return this.rev.getShortMessage();
+  }
+
+  @Override
+  public String fullMessage() {
+    return this.rev.getFullMessage();
+  }
+
+  @Override
+  public Iterable<String> tags() throws IOException {
+    return this.tags.of(this.rev);
+  }
+
   @Override
   public XML asXml() {
     return new StrictXML(
@@ -53,18 +101,18 @@ final class DefaultCommit implements Commit {
         new Xembler(
           new Directives()
             .add("commit")
-              .add("id").set(this.rev.getId().getName()).up()
+              .add("id").set(this.id()).up()
               .add("author")
-                .add("name").set(this.rev.getAuthorIdent().getName()).up()
-                .add("email").set(this.rev.getAuthorIdent().getEmailAddress()).up()
-                .add("date").set(this.rev.getAuthorIdent().getWhen().toInstant()).up()
+                .add("name").set(this.author()).up()
+                .add("email").set(this.email()).up()
+                .add("date").set(this.date()).up()
                 .up()
               .add("message")
-                .add("short").set(this.rev.getShortMessage()).up()
-                .add("full").set(this.rev.getFullMessage()).up()
+                .add("short").set(this.shortMessage()).up()
+                .add("full").set(this.fullMessage()).up()
                 .up()
               .add("taggedAs")
-              .append(new TagsOf(this.repo, this.rev))
+              .append(new TagsOf(this.tags, this.rev))
         ).xmlQuietly()
       ),
       new Schema()
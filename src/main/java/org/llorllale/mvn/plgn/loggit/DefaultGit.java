@@ -18,7 +18,9 @@ package org.llorllale.mvn.plgn.loggit;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdRef;
+import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 
 /**
@@ -28,8 +30,10 @@ import org.eclipse.jgit.lib.Repository;
  * @since 0.1.0
  */
 final class DefaultGit implements Git {
+  private final Repositories repos;
   private final Path path;
   private final String ref;
+  private final WalkFilter filter;
 
   /**
    * Ctor.
@@ -39,16 +43,78 @@ final class DefaultGit implements Git {
    * @since 0.3.0
    */
   DefaultGit(Path path, String ref) {
+    this(new Repositories(), path, ref);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repos the pool from which the repo is opened
+   * @param path path to the repo's dir
+   * @param ref the ref to point to in order to fetch the log
+   * @since 1.2.0
+   */
+  DefaultGit(Repositories repos, Path path, String ref) {
+    this(repos, path, ref, true);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repos the pool from which the repo is opened
+   * @param path path to the repo's dir
+   * @param ref the ref to point to in order to fetch the log
+   * @param bodies whether the commits' bodies are kept
+   * @since 1.2.0
+   */
+  DefaultGit(Repositories repos, Path path, String ref, boolean bodies) {
+    this(repos, path, ref, walk -> walk.setRetainBody(bodies));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repos the pool from which the repo is opened
+   * @param path path to the repo's dir
+   * @param ref the ref to point to in order to fetch the log
+   * @param filter applied to the log's walk before it starts
+   * @since 1.2.0
+   */
+  DefaultGit(Repositories repos, Path path, String ref, WalkFilter filter) {
+    this.repos = repos;
     this.path = path;
     this.ref = ref;
+    this.filter = filter;
   }
 
   @Override
   public Log log() throws IOException {
-    final Repository repo = new FileRepository(this.path.toFile());
+    final Repository repo = this.repos.open(this.path);
     return new DefaultLog(
       repo,
-      () -> repo.findRef(this.ref)
+      () -> DefaultGit.ref(repo, this.ref),
+      new Tags(repo),
+      this.filter
     );
   }
+
+  /**
+   * The ref with the given name or, if there's none, the commit that the name resolves to,
+   * such as the commit id at the end of a range.
+   * 
+   * @param repo the repo
+   * @param name the ref's name or the revision
+   * @return the ref, or {@code null} if the name cannot be resolved
+   * @throws IOException if an error occurs reading the repo
+   */
+  private static Ref ref(Repository repo, String name) throws IOException {
+    Ref ref = repo.findRef(name);
+    if (ref == null) {
+      final ObjectId id = repo.resolve(name);
+      if (id != null) {
+        ref = new ObjectIdRef.Unpeeled(Ref.Storage.NEW, name, id);
+      }
+    }
+    return ref;
+  }
 }
@@ -16,18 +16,18 @@
 
 package org.llorllale.mvn.plgn.loggit;
 
-import com.jcabi.xml.StrictXML;
-import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
+import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.scalar.IoCheckedScalar;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
-import org.xembly.Directives;
-import org.xembly.Xembler;
 
 /**
  * Default impl of {@link Log}.
@@ -35,10 +35,7 @@ import org.xembly.Xembler;
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
-final class DefaultLog implements Log {
-  private final Repository repo;
-  private final IoCheckedScalar<Ref> ref;
-
+final class DefaultLog extends LogEnvelope {
   /**
    * Ctor.
    * 
@@ -47,39 +44,152 @@ final class DefaultLog implements Log {
    * @since 0.1.0
    */
   DefaultLog(Repository repo, Scalar<Ref> ref) {
-    this.repo = repo;
-    this.ref = new IoCheckedScalar<>(ref);
+    this(repo, ref, new Tags(repo));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @since 1.2.0
+   */
+  DefaultLog(Repository repo, Scalar<Ref> ref, Tags tags) {
+    this(repo, ref, tags, true);
   }
 
-  @Override
-  public Iterable<Commit> commits() throws IOException {
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @param bodies whether the commits' bodies are kept; without them only the commits' ids
+   *     and tags can be read
+   * @since 1.2.0
+   */
+  DefaultLog(Repository repo, Scalar<Ref> ref, Tags tags, boolean bodies) {
+    this(repo, ref, tags, walk -> walk.setRetainBody(bodies));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @param filter applied to the walk before it starts
+   * @since 1.2.0
+   */
+  DefaultLog(Repository repo, Scalar<Ref> ref, Tags tags, WalkFilter filter) {
+    this(repo, ref, tags, filter, new Walks());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags, shared by all commits of this log
+   * @param filter applied to the walk before it starts
+   * @param walks the walks opened, closed with this log
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private DefaultLog(Repository repo, Scalar<Ref> ref, Tags tags, WalkFilter filter, Walks walks) {
+    super(() -> DefaultLog.walk(repo, new IoCheckedScalar<>(ref), tags, filter, walks), walks);
+  }
+
+  /**
+   * Walks the history of {@code ref}.
+   * 
+   * @param repo the repo
+   * @param ref the ref for which to get the commits for
+   * @param tags the repo's tags
+   * @param filter applied to the walk before it starts
+   * @param walks where the walk is registered, to be closed with the log
+   * @return the commits reachable from {@code ref} that pass the filter
+   * @throws IOException if {@code ref} is invalid or an error occurs reading the repo
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private static Iterable<Commit> walk(
+    Repository repo, IoCheckedScalar<Ref> ref, Tags tags, WalkFilter filter, Walks walks
+  ) throws IOException {
     try {
-      final RevWalk walk = new RevWalk(this.repo);
+      final RevWalk walk = walks.opened(new RevWalk(repo));
+      filter.apply(walk);
       walk.markStart(
         walk.parseCommit(
-          this.ref.value().getObjectId()
+          ref.value().getObjectId()
         )
       );
       return new Mapped<>(
-        commit -> new DefaultCommit(this.repo, commit),
-        walk
+        commit -> new DefaultCommit(tags, commit),
+        new Released(walk)
       );
     } catch (NullPointerException e) {
       throw new IOException("Invalid ref provided", e);
     }
   }
 
-  @Override
-  public XML asXml() throws IOException {
-    final Directives dirs = new Directives().add("log").add("commits");
-    this.commits().forEach(commit ->
-      dirs.append(Directives.copyOf(commit.asXml().node()))
-    );
-    return new StrictXML(
-      new XMLDocument(
-        new Xembler(dirs).xmlQuietly()
-      ),
-      new Schema()
-    );
+  /**
+   * The walks opened by a log, closed with it whether or not all their commits were read.
+   */
+  private static final class Walks implements Closeable {
+    private final List<RevWalk> opened = new ArrayList<>(1);
+
+    /**
+     * Registers a walk.
+     * 
+     * @param walk the walk
+     * @return the walk
+     */
+    synchronized RevWalk opened(RevWalk walk) {
+      this.opened.add(walk);
+      return walk;
+    }
+
+    @Override
+    public synchronized void close() {
+      this.opened.forEach(RevWalk::close);
+      this.opened.clear();
+    }
+  }
+
+  /**
+   * A walk that releases its reader once all its commits have been read, before the log is
+   * closed.
+   */
+  private static final class Released implements Iterable<RevCommit> {
+    private final RevWalk walk;
+
+    /**
+     * Ctor.
+     * 
+     * @param walk the walk
+     */
+    Released(RevWalk walk) {
+      this.walk = walk;
+    }
+
+    @Override
+    public Iterator<RevCommit> iterator() {
+      final Iterator<RevCommit> commits = this.walk.iterator();
+      return new Iterator<RevCommit>() {
+        @Override
+        public boolean hasNext() {
+          final boolean more = commits.hasNext();
+          if (!more) {
+            Released.this.walk.close();
+          }
+          return more;
+        }
+
+        @Override
+        public RevCommit next() {
+          return commits.next();
+        }
+      };
+    }
   }
 }
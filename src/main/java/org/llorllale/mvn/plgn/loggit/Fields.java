@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.SolidScalar;
+
+/**
+ * The fields of each commit that an output format needs.
+ * 
+ * <p>Fields are named after the elements of the log's XML: {@code id}, {@code author},
+ * {@code email}, {@code date}, {@code short}, {@code full} and {@code tags}. The commit's
+ * {@code id} is always included. Fields that are not needed are neither read from the
+ * commits nor written to the log.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class Fields {
+  private static final List<String> NAMES = Arrays.asList(
+    "id", "author", "email", "date", "short", "full", "tags"
+  );
+  private static final List<String> BODY = Arrays.asList(
+    "author", "email", "date", "short", "full"
+  );
+
+  private final IoCheckedScalar<Set<String>> names;
+
+  /**
+   * Ctor. All fields.
+   * 
+   * @since 1.2.0
+   */
+  Fields() {
+    this("");
+  }
+
+  /**
+   * Ctor. The fields that an output format needs: the {@code markdown} format needs only
+   * the id, author and short message. Other formats need the given fields, except that
+   * {@code strict} validation of a log that is post-processed needs them all.
+   * 
+   * @param format the output format
+   * @param validation the validation mode
+   * @param names comma-separated names of the fields; all fields if blank
+   * @since 1.2.0
+   */
+  Fields(String format, String validation, String names) {
+    this(Fields.needed(format, validation, names));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param names comma-separated names of the fields; all fields if blank
+   * @since 1.2.0
+   */
+  Fields(String names) {
+    this.names = new IoCheckedScalar<>(
+      new SolidScalar<>(
+        () -> {
+          final Set<String> set = new HashSet<>(Fields.NAMES);
+          if (!names.trim().isEmpty()) {
+            set.clear();
+            set.add("id");
+            for (String name : names.split(",")) {
+              Fields.add(name.trim(), set);
+            }
+          }
+          return Collections.unmodifiableSet(set);
+        }
+      )
+    );
+  }
+
+  /**
+   * Whether the field is needed.
+   * 
+   * @param name the field's name
+   * @return {@code true} if the field is needed
+   * @throws IOException if a field's name is unknown
+   * @since 1.2.0
+   */
+  boolean has(String name) throws IOException {
+    return this.names.value().contains(name);
+  }
+
+  /**
+   * Whether these are all the known fields, ie. whether the log is complete.
+   * 
+   * @return {@code true} if no field is left out
+   * @throws IOException if a field's name is unknown
+   * @since 1.2.0
+   */
+  boolean all() throws IOException {
+    return this.names.value().containsAll(Fields.NAMES);
+  }
+
+  /**
+   * Whether any of the fields is read from the commit's body, ie. anything but the commit's
+   * id and tags.
+   * 
+   * @return {@code true} if the commits' bodies are needed
+   * @throws IOException if a field's name is unknown
+   * @since 1.2.0
+   */
+  boolean body() throws IOException {
+    return !Collections.disjoint(this.names.value(), Fields.BODY);
+  }
+
+  /**
+   * Adds a field's name to {@code set}.
+   * 
+   * @param name the field's name
+   * @param set the names of the fields
+   * @throws IOException if the name is unknown
+   */
+  private static void add(String name, Set<String> set) throws IOException {
+    if (!Fields.NAMES.contains(name)) {
+      throw new IOException(
+        String.format("Unknown field '%s', expected one of %s", name, Fields.NAMES)
+      );
+    }
+    set.add(name);
+  }
+
+  /**
+   * The names of the fields that an output format needs.
+   * 
+   * @param format the output format
+   * @param validation the validation mode
+   * @param names the configured names
+   * @return comma-separated names of the fields; all fields if blank
+   */
+  private static String needed(String format, String validation, String names) {
+    final String needed;
+    if ("markdown".equals(format)) {
+      needed = "id,author,short";
+    } else if ("strict".equals(validation) && !"default".equals(format)) {
+      needed = "";
+    } else {
+      needed = names;
+    }
+    return needed;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.LengthOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TeeInput;
+import org.llorllale.mvn.plgn.loggit.xsl.post.Custom;
+import org.llorllale.mvn.plgn.loggit.xsl.post.Identity;
+
+/**
+ * The changelog's output format.
+ * 
+ * <p>The {@code default} and {@code markdown} formats are streamed to file one commit at a
+ * time; the {@code default} format is validated before it replaces {@code output}, so an
+ * invalid log never does. Other formats build the log's XML and transform it with a
+ * stylesheet: the {@code custom} format with the user's, any other with the identity
+ * transform.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class Format {
+  private final String name;
+  private final File stylesheet;
+  private final Validation checks;
+  private final Fields fields;
+
+  /**
+   * Ctor.
+   * 
+   * @param name the format's name
+   * @param stylesheet the stylesheet of the {@code custom} format
+   * @param checks how the log's XML is validated
+   * @param fields the fields of each commit that are written
+   * @since 1.2.0
+   */
+  Format(String name, File stylesheet, Validation checks, Fields fields) {
+    this.name = name;
+    this.stylesheet = stylesheet;
+    this.checks = checks;
+    this.fields = fields;
+  }
+
+  /**
+   * Pre-processes the walked log and writes it to {@code output} in this format, counting
+   * the commits walked and those left after pre-processing. The walked log is closed once
+   * written, even if pre-processing stopped reading it early or writing failed.
+   * 
+   * @param walked the log
+   * @param pre the pre-processing
+   * @param output the file to write to
+   * @param metrics where the time spent in each phase is recorded
+   * @throws IOException if the log cannot be read or written
+   * @since 1.2.0
+   */
+  void write(Log walked, UnaryOperator<Log> pre, File output, Metrics metrics) throws IOException {
+    try (Log log = new MeteredLog("walk", "commitsWalked", metrics, walked)) {
+      this.write(
+        new MeteredLog("pre", "commitsEmitted", metrics, pre.apply(log)), output, metrics
+      );
+    }
+  }
+
+  /**
+   * Writes the log to {@code output} in this format.
+   * 
+   * @param log the log
+   * @param output the file to write to
+   * @param metrics where the time spent in each phase is recorded
+   * @throws IOException if the log cannot be read or written
+   * @since 1.2.0
+   */
+  void write(Log log, File output, Metrics metrics) throws IOException {
+    if ("default".equals(this.name)) {
+      this.stream(log, output, metrics);
+    } else if ("markdown".equals(this.name)) {
+      metrics.timed("write", () -> {
+        new MarkdownStream(log).writeTo(new OutputTo(output));
+        return output;
+      });
+    } else {
+      final XML xml = metrics.timed("xml", () -> this.checks.xml(log, this.fields));
+      metrics.peak("peakXmlElements", Long.parseLong(xml.xpath("count(//*)").get(0)));
+      final String text = metrics.timed("post", () -> this.transform(xml));
+      metrics.timed(
+        "write",
+        new LengthOf(new TeeInput(new InputOf(text), new OutputTo(output)))
+      );
+    }
+    metrics.count("bytesWritten", output.length());
+  }
+
+  /**
+   * Streams the log's XML to a temporary file next to {@code output}, validates it and only
+   * then moves it to {@code output}. Missing directories are created, and the temporary file
+   * is created like any other file so that the changelog gets the default permissions.
+   * 
+   * @param log the log
+   * @param output the file to write to
+   * @param metrics where the time spent in each phase is recorded
+   * @throws IOException if the log cannot be read or written, or its XML is invalid
+   */
+  private void stream(Log log, File output, Metrics metrics) throws IOException {
+    final Path target = output.toPath().toAbsolutePath();
+    final Path tmp = Files.createFile(
+      Files.createDirectories(target.resolveSibling("")).resolve(
+        String.format("%s.%s.tmp", output.getName(), UUID.randomUUID())
+      )
+    );
+    try {
+      metrics.timed("write", () -> {
+        new XmlStream(log, this.fields).writeTo(new OutputTo(tmp));
+        return tmp;
+      });
+      this.checks.check(tmp.toFile(), this.fields);
+      Files.move(
+        tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+      );
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Transforms the XML using a stylesheet.
+   * 
+   * @param original the original XML
+   * @return the transformed XML
+   * @throws IOException if there's an issue reading the stylesheet
+   */
+  private String transform(XML original) throws IOException {
+    final String output;
+    if ("custom".equals(this.name)) {
+      output = new Custom(new InputOf(this.stylesheet)).applyTo(original);
+    } else {
+      output = new Identity().applyTo(original);
+    }
+    return output;
+  }
+}
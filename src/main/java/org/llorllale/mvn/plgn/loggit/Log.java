@@ -17,18 +17,26 @@
 package org.llorllale.mvn.plgn.loggit;
 
 import com.jcabi.xml.XML;
+import java.io.Closeable;
 import java.io.IOException;
 
 /**
  * A {@link Git} repo's log.
+ * 
+ * <p>Closing a log releases what reading its commits holds on to, such as the walks of the
+ * repo left open by consumers that stopped iterating early. Decorators close the log they
+ * decorate.
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
-public interface Log {
+public interface Log extends Closeable {
   /**
    * Commits from this log.
    * 
+   * <p>Commits are read from the repository as they are iterated: consumers that stop
+   * iterating early never cause the rest of the history to be parsed.
+   * 
    * @return commits from this log
    * @throws IOException if error reading git repo
    * @since 0.1.0
@@ -43,4 +51,16 @@ public interface Log {
    * @since 0.1.0
    */
   XML asXml() throws IOException;
+
+  /**
+   * Releases what reading this log's commits holds on to. Logs that hold on to nothing,
+   * such as those written before logs could be closed, need not override it.
+   * 
+   * @throws IOException if an error occurs releasing the log's resources
+   * @since 1.2.0
+   */
+  @Override
+  default void close() throws IOException {
+    // nothing to release
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.StrictXML;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.Closeable;
+import java.io.IOException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Envelope for {@link Log}s.
+ * 
+ * <p>Subclasses only provide the commits: the XML view is built from them.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public abstract class LogEnvelope implements Log {
+  private final IoCheckedScalar<Iterable<Commit>> origin;
+  private final Closeable resources;
+
+  /**
+   * Ctor.
+   * 
+   * @param commits the commits of this log
+   * @since 1.2.0
+   */
+  public LogEnvelope(Scalar<Iterable<Commit>> commits) {
+    this(commits, () -> { });
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param commits the commits of this log
+   * @param resources what is released when this log is closed, such as the decorated log
+   * @since 1.2.0
+   */
+  public LogEnvelope(Scalar<Iterable<Commit>> commits, Closeable resources) {
+    this.origin = new IoCheckedScalar<>(commits);
+    this.resources = resources;
+  }
+
+  @Override
+  public final Iterable<Commit> commits() throws IOException {
+    return this.origin.value();
+  }
+
+  @Override
+  public final XML asXml() throws IOException {
+    final Directives dirs = new Directives().add("log").add("commits");
+    this.commits().forEach(commit ->
+      dirs.append(Directives.copyOf(commit.asXml().node()))
+    );
+    return new StrictXML(
+      new XMLDocument(
+        new Xembler(dirs).xmlQuietly()
+      ),
+      new Schema()
+    );
+  }
+
+  @Override
+  public final void close() throws IOException {
+    this.resources.close();
+  }
+}
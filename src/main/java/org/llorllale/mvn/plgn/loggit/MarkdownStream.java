@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Output;
+
+/**
+ * Writes a {@link Log} as markdown one commit at a time.
+ * 
+ * <p>The output is byte for byte the same as the {@code markdown.xsl} stylesheet's, but no
+ * XML is ever built: each commit is written as soon as it is read from the log.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see org.llorllale.mvn.plgn.loggit.xsl.post.Markdown
+ * @since 1.2.0
+ */
+final class MarkdownStream {
+  private static final int ABBREVIATED = 7;
+
+  private final Log log;
+
+  /**
+   * Ctor.
+   * 
+   * @param log the log to write
+   * @since 1.2.0
+   */
+  MarkdownStream(Log log) {
+    this.log = log;
+  }
+
+  /**
+   * Writes the log to {@code output}. The output is opened only once the log's commits
+   * have been resolved.
+   * 
+   * @param output where to write the log
+   * @throws IOException if an error occurs reading the log or writing to {@code output}
+   * @since 1.2.0
+   */
+  void writeTo(Output output) throws IOException {
+    final Iterable<Commit> commits = this.log.commits();
+    try (
+      OutputStream out = output.stream();
+      Writer text = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))
+    ) {
+      text.write("# CHANGELOG");
+      for (Commit commit : commits) {
+        text.write("\n* id: ");
+        text.write(
+          commit.id().substring(0, Math.min(MarkdownStream.ABBREVIATED, commit.id().length()))
+        );
+        text.write(" (by ");
+        text.write(commit.author());
+        text.write(")\n      ");
+        text.write(commit.shortMessage());
+      }
+      text.write('\n');
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.function.Function;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+
+/**
+ * Keeps the commits whose text, such as their message, contains a match for a regex, or
+ * those whose text doesn't.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class MatchingRevFilter extends RevFilter implements Cloneable {
+  private final Function<RevCommit, String> text;
+  private final Regex regex;
+  private final boolean matching;
+
+  /**
+   * Ctor.
+   * 
+   * @param text the text of a commit that is matched
+   * @param regex the regex
+   * @param matching {@code true} to keep the commits with a match, {@code false} to keep
+   *     those without one
+   * @since 1.2.0
+   */
+  MatchingRevFilter(Function<RevCommit, String> text, Regex regex, boolean matching) {
+    super();
+    this.text = text;
+    this.regex = regex;
+    this.matching = matching;
+  }
+
+  @Override
+  public boolean include(RevWalk walker, RevCommit commit) throws IOException {
+    return this.regex.foundIn(this.text.apply(commit)) == this.matching;
+  }
+
+  @Override
+  public boolean requiresCommitBody() {
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("checkstyle:NoClone")
+  public RevFilter clone() {
+    return this;
+  }
+}
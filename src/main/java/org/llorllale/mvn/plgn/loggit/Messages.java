@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AndRevFilter;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+
+/**
+ * Keeps only the commits whose full message contains a match for a regex, or only those
+ * whose message doesn't.
+ * 
+ * <p>Same as the {@link org.llorllale.mvn.plgn.loggit.pre.Include} and
+ * {@link org.llorllale.mvn.plgn.loggit.pre.Exclude} pre-processors, but applied as the commits
+ * are walked: the commits filtered out are never turned into {@link Commit}s. The {@code .*}
+ * regex keeps all commits, whether including or excluding.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Messages implements WalkFilter {
+  private final Regex regex;
+  private final boolean matching;
+
+  /**
+   * Ctor.
+   * 
+   * @param regex the regex
+   * @param matching {@code true} to keep the commits with a match, {@code false} to keep
+   *     those without one
+   * @since 1.2.0
+   */
+  Messages(Regex regex, boolean matching) {
+    this.regex = regex;
+    this.matching = matching;
+  }
+
+  @Override
+  public void apply(RevWalk walk) {
+    if (!this.regex.any()) {
+      walk.setRevFilter(
+        AndRevFilter.create(
+          walk.getRevFilter(),
+          new MatchingRevFilter(RevCommit::getFullMessage, this.regex, this.matching)
+        )
+      );
+    }
+  }
+}
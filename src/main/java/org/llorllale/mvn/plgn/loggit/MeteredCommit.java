@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * A {@link Commit} whose tag resolution is timed as the {@code tags} phase of the changelog's
+ * {@link Metrics}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class MeteredCommit implements Commit {
+  private final Metrics metrics;
+  private final Commit origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param metrics the metrics
+   * @param origin the commit
+   * @since 1.2.0
+   */
+  MeteredCommit(Metrics metrics, Commit origin) {
+    this.metrics = metrics;
+    this.origin = origin;
+  }
+
+  @Override
+  public String id() {
+    return this.origin.id();
+  }
+
+  @Override
+  public String author() {
+    return this.origin.author();
+  }
+
+  @Override
+  public String email() {
+    return this.origin.email();
+  }
+
+  @Override
+  public Instant date() {
+    return this.origin.date();
+  }
+
+  @Override
+  public String shortMessage() {
+    return this.origin.shortMessage();
+  }
+
+  @Override
+  public String fullMessage() {
+    return this.origin.fullMessage();
+  }
+
+  @Override
+  public Iterable<String> tags() throws IOException {
+    return this.metrics.timed("tags", this.origin::tags);
+  }
+
+  @Override
+  public XML asXml() {
+    return this.origin.asXml();
+  }
+}
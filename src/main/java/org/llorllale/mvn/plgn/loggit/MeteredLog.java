@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.util.Iterator;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.UncheckedScalar;
+
+/**
+ * A {@link Log} whose reading is timed as a phase of the changelog's {@link Metrics}. The
+ * commits read are counted, and the resolution of their tags is timed as the {@code tags}
+ * phase.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class MeteredLog extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param phase the phase under which reading the log is timed
+   * @param counter the counter of commits read
+   * @param metrics the metrics
+   * @param origin the log
+   * @since 1.2.0
+   */
+  MeteredLog(String phase, String counter, Metrics metrics, Log origin) {
+    super(() -> new Mapped<>(
+      commit -> new MeteredCommit(metrics, commit),
+      new Items(phase, counter, metrics, metrics.timed(phase, origin::commits))
+    ), origin);
+  }
+
+  /**
+   * Times the iteration over the commits and counts them.
+   * 
+   * @author George Aristy (george.aristy@gmail.com)
+   * @since 1.2.0
+   */
+  private static final class Items implements Iterable<Commit> {
+    private final String phase;
+    private final String counter;
+    private final Metrics metrics;
+    private final Iterable<Commit> origin;
+
+    /**
+     * Ctor.
+     * 
+     * @param phase the phase under which the iteration is timed
+     * @param counter the counter of commits
+     * @param metrics the metrics
+     * @param origin the commits
+     */
+    Items(String phase, String counter, Metrics metrics, Iterable<Commit> origin) {
+      this.phase = phase;
+      this.counter = counter;
+      this.metrics = metrics;
+      this.origin = origin;
+    }
+
+    @Override
+    public Iterator<Commit> iterator() {
+      final Iterator<Commit> items = this.origin.iterator();
+      return new Iterator<Commit>() {
+        @Override
+        public boolean hasNext() {
+          return new UncheckedScalar<>(
+            () -> Items.this.metrics.timed(Items.this.phase, items::hasNext)
+          ).value();
+        }
+
+        @Override
+        public Commit next() {
+          final Commit next = new UncheckedScalar<>(
+            () -> Items.this.metrics.timed(Items.this.phase, items::next)
+          ).value();
+          Items.this.metrics.count(Items.this.counter, 1);
+          return next;
+        }
+      };
+    }
+  }
+}
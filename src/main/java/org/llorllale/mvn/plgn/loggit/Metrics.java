@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.cactoos.Scalar;
+import org.cactoos.io.LengthOf;
+import org.cactoos.io.TeeInput;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Wall time per phase and counters of a changelog's generation.
+ * 
+ * <p>Phases may be nested, as the log's commits are read lazily while the output is being
+ * written: a phase's time excludes the time spent in the phases nested in it, so that the
+ * times of all phases add up to the total.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Metrics {
+  private final Map<String, Long> phases;
+  private final Map<String, Long> counters;
+  private final ThreadLocal<Deque<long[]>> nested;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.2.0
+   */
+  Metrics() {
+    this.phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    this.counters = Collections.synchronizedMap(new LinkedHashMap<>());
+    this.nested = ThreadLocal.withInitial(ArrayDeque::new);
+  }
+
+  /**
+   * Times {@code action} as part of {@code phase}.
+   * 
+   * @param <T> the type of the action's result
+   * @param phase the phase's name
+   * @param action the action
+   * @return the action's result
+   * @throws IOException if the action fails
+   * @since 1.2.0
+   */
+  public <T> T timed(String phase, Scalar<T> action) throws IOException {
+    final Deque<long[]> stack = this.nested.get();
+    final long[] children = new long[1];
+    stack.push(children);
+    final long start = System.nanoTime();
+    try {
+      return new IoCheckedScalar<>(action).value();
+    } finally {
+      final long elapsed = System.nanoTime() - start;
+      stack.pop();
+      if (!stack.isEmpty()) {
+        stack.peek()[0] += elapsed;
+      }
+      this.phases.merge(phase, elapsed - children[0], Long::sum);
+    }
+  }
+
+  /**
+   * Adds {@code amount} to {@code counter}.
+   * 
+   * @param counter the counter's name
+   * @param amount the amount to add
+   * @since 1.2.0
+   */
+  public void count(String counter, long amount) {
+    this.counters.merge(counter, amount, Long::sum);
+  }
+
+  /**
+   * Raises {@code counter} to {@code value} if it is lower.
+   * 
+   * @param counter the counter's name
+   * @param value the value
+   * @since 1.2.0
+   */
+  public void peak(String counter, long value) {
+    this.counters.merge(counter, value, Math::max);
+  }
+
+  /**
+   * The metrics as human-readable lines, phases first.
+   * 
+   * @return the lines
+   * @since 1.2.0
+   */
+  public List<String> asLines() {
+    final List<String> lines = Metrics.formatted(this.millis(), "%s: %.3f ms");
+    lines.addAll(Metrics.formatted(this.counters, "%s: %d"));
+    return lines;
+  }
+
+  /**
+   * Reports the metrics as lines, and saves them as JSON to {@code file} if given.
+   * 
+   * @param lines receives each of the {@link #asLines()}
+   * @param file the file to save the JSON to, or {@code null}
+   * @throws IOException if the file cannot be written
+   * @since 1.2.0
+   */
+  public void report(Consumer<String> lines, File file) throws IOException {
+    this.asLines().forEach(lines);
+    if (file != null) {
+      new LengthOf(new TeeInput(this.asJson(), file)).intValue();
+    }
+  }
+
+  /**
+   * The metrics as a JSON object, with phase times in milliseconds.
+   * 
+   * @return the JSON
+   * @since 1.2.0
+   */
+  public String asJson() {
+    return String.format(
+      "{\"phases\":{%s},\"counters\":{%s}}",
+      Metrics.json(this.millis(), "\"%s\":%.3f"),
+      Metrics.json(this.counters, "\"%s\":%d")
+    );
+  }
+
+  /**
+   * The time of each phase, in milliseconds.
+   * 
+   * @return the times
+   */
+  private Map<String, Double> millis() {
+    final double nanos = TimeUnit.MILLISECONDS.toNanos(1);
+    final Map<String, Double> times = new LinkedHashMap<>();
+    synchronized (this.phases) {
+      this.phases.forEach((name, time) -> times.put(name, time / nanos));
+    }
+    return times;
+  }
+
+  /**
+   * Comma-separated JSON members.
+   * 
+   * @param values the members' values, by name
+   * @param pattern the format of a member, given its name and value
+   * @return the members
+   */
+  private static String json(Map<String, ?> values, String pattern) {
+    return String.join(",", Metrics.formatted(values, pattern));
+  }
+
+  /**
+   * Formats name/value pairs.
+   * 
+   * @param values the values, by name
+   * @param pattern the format of a pair, given its name and value
+   * @return the formatted pairs
+   */
+  private static List<String> formatted(Map<String, ?> values, String pattern) {
+    final List<String> pairs = new ArrayList<>();
+    synchronized (values) {
+      values.forEach((name, value) -> pairs.add(String.format(Locale.ROOT, pattern, name, value)));
+    }
+    return pairs;
+  }
+}
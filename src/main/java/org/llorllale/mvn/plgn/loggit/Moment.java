@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+import org.cactoos.list.ListOf;
+
+/**
+ * A moment in time given as text: an ISO-8601 date ({@code 2018-03-31}, taken as the start
+ * of that day), date-time ({@code 2018-03-31T12:00:00}) or date-time with an offset
+ * ({@code 2018-03-31T12:00:00Z}), or an ISO-8601 period ({@code P30D}) or duration
+ * ({@code PT12H}) taken as that long ago. Dates and date-times without an offset are in
+ * the clock's time zone.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Moment {
+  private final String text;
+  private final Clock clock;
+
+  /**
+   * Ctor.
+   * 
+   * @param text the moment
+   * @since 1.2.0
+   */
+  Moment(String text) {
+    this(text, Clock.systemDefaultZone());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param text the moment
+   * @param clock the clock giving the current time and time zone
+   * @since 1.2.0
+   */
+  Moment(String text, Clock clock) {
+    this.text = text;
+    this.clock = clock;
+  }
+
+  /**
+   * The moment.
+   * 
+   * @return the moment
+   * @throws IOException if the text is none of the supported formats
+   * @since 1.2.0
+   */
+  Instant value() throws IOException {
+    final List<Function<String, Instant>> formats = new ListOf<>(
+      txt -> OffsetDateTime.parse(txt).toInstant(),
+      txt -> LocalDateTime.parse(txt).atZone(this.clock.getZone()).toInstant(),
+      txt -> LocalDate.parse(txt).atStartOfDay(this.clock.getZone()).toInstant(),
+      txt -> this.clock.instant().atZone(this.clock.getZone()).minus(Period.parse(txt))
+        .toInstant(),
+      txt -> this.clock.instant().minus(Duration.parse(txt))
+    );
+    for (Function<String, Instant> format : formats) {
+      try {
+        return format.apply(this.text.trim());
+      } catch (DateTimeParseException ignored) {
+        continue;
+      }
+    }
+    throw new IOException(String.format("Invalid date '%s'", this.text));
+  }
+}
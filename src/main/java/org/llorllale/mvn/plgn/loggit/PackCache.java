@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.jgit.lib.Config;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+
+/**
+ * JGit's pack cache, sized for a repository.
+ * 
+ * <p>Every setting not given explicitly is derived from the size of the repository's packs
+ * on disk and from the JVM's max heap: the packed git limit grows with the packs up to a
+ * quarter of the heap, the delta base cache to a sixteenth of it, and packs larger than
+ * {@value #LARGE} bytes are read in larger windows. Explicit settings accept the same
+ * values as {@code git config} (eg. {@code 512m}).
+ * 
+ * <p>The cache is shared by the whole JVM and reconfiguring it drops its contents, so it is
+ * only reinstalled when its settings change.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class PackCache {
+  private static final String CORE = ConfigConstants.CONFIG_CORE_SECTION;
+  private static final long LARGE = 256L * WindowCacheConfig.MB;
+  private static final int SMALL_WINDOW = 8 * WindowCacheConfig.KB;
+  private static final int LARGE_WINDOW = 64 * WindowCacheConfig.KB;
+  private static final long MIN_LIMIT = 10L * WindowCacheConfig.MB;
+  private static final int PACK_SHARE = 4;
+  private static final int DELTA_SHARE = 16;
+  private static final AtomicReference<String> INSTALLED = new AtomicReference<>("");
+
+  private final Path dir;
+  private final Map<String, String> settings;
+
+  /**
+   * Ctor.
+   * 
+   * @param dir the repository's git dir
+   * @param settings explicit settings, by their {@code core} key (eg.
+   *     {@code packedGitLimit}); blank values are derived from the packs' size
+   * @since 1.2.0
+   */
+  PackCache(Path dir, Map<String, String> settings) {
+    this.dir = dir;
+    this.settings = settings;
+  }
+
+  /**
+   * The cache's settings.
+   * 
+   * @return the settings
+   * @throws IOException if the packs cannot be listed or a setting is invalid
+   * @since 1.2.0
+   */
+  WindowCacheConfig value() throws IOException {
+    try {
+      return new WindowCacheConfig().fromConfig(this.config());
+    } catch (IllegalArgumentException e) {
+      throw new IOException(String.format("Invalid pack cache settings: %s", this.settings), e);
+    }
+  }
+
+  /**
+   * Installs the cache for the whole JVM, unless it is already installed.
+   * 
+   * @throws IOException if the packs cannot be listed or a setting is invalid
+   * @since 1.2.0
+   */
+  void install() throws IOException {
+    final WindowCacheConfig cache = this.value();
+    final String key = String.format(
+      "%d/%d/%d/%b",
+      cache.getPackedGitLimit(), cache.getPackedGitWindowSize(),
+      cache.getDeltaBaseCacheLimit(), cache.isPackedGitMMAP()
+    );
+    if (!key.equals(PackCache.INSTALLED.getAndSet(key))) {
+      cache.install();
+    }
+  }
+
+  /**
+   * The settings as git config, derived from the packs' size where not given.
+   * 
+   * @return the config
+   * @throws IOException if the packs cannot be listed
+   */
+  private Config config() throws IOException {
+    final long size = this.packs();
+    final long heap = Runtime.getRuntime().maxMemory();
+    final Config config = new Config();
+    config.setLong(
+      PackCache.CORE, null, "packedGitLimit",
+      Math.max(PackCache.MIN_LIMIT, Math.min(size, heap / PackCache.PACK_SHARE))
+    );
+    config.setInt(PackCache.CORE, null, "packedGitWindowSize", PackCache.window(size));
+    config.setLong(
+      PackCache.CORE, null, ConfigConstants.CONFIG_KEY_DELTA_BASE_CACHE_LIMIT,
+      Math.max(
+        PackCache.MIN_LIMIT,
+        Math.min(
+          size / PackCache.DELTA_SHARE,
+          Math.min(heap / PackCache.DELTA_SHARE, Integer.MAX_VALUE)
+        )
+      )
+    );
+    this.settings.forEach(
+      (key, value) -> {
+        if (value != null && !value.trim().isEmpty()) {
+          config.setString(PackCache.CORE, null, key, value.trim());
+        }
+      }
+    );
+    return config;
+  }
+
+  /**
+   * The size of the windows in which packs are read.
+   * 
+   * @param size the size of the packs
+   * @return the window size in bytes
+   */
+  private static int window(long size) {
+    int window = PackCache.SMALL_WINDOW;
+    if (size > PackCache.LARGE) {
+      window = PackCache.LARGE_WINDOW;
+    }
+    return window;
+  }
+
+  /**
+   * The size of the repository's packs on disk.
+   * 
+   * @return the size in bytes; zero if the repository has no packs
+   * @throws IOException if the packs cannot be listed
+   */
+  private long packs() throws IOException {
+    final Path packs = this.dir.resolve("objects").resolve("pack");
+    long size = 0;
+    if (Files.isDirectory(packs)) {
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(packs, "*.pack")) {
+        for (Path file : files) {
+          size += Files.size(file);
+        }
+      }
+    }
+    return size;
+  }
+}
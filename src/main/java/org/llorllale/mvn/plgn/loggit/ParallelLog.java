@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link Log} whose commits' XML is rendered by a pool of threads.
+ * 
+ * <p>Commits are read from the origin log in batches. The commits of a batch are rendered
+ * concurrently and then handed out in the origin's order, each with its XML already rendered.
+ * Only one batch is held in memory at a time. Each iteration renders all its batches with
+ * the same pool, which is shut down once the origin's commits run out or the log is closed.
+ * With a single thread the origin's commits are handed out as they are.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class ParallelLog extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param threads the number of threads that render the commits
+   * @param origin the log
+   * @since 1.2.0
+   */
+  ParallelLog(int threads, Log origin) {
+    this(threads, origin, new Pools(origin));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param threads the number of threads that render the commits
+   * @param origin the log
+   * @param pools the pools started, shut down with this log before the origin is closed
+   */
+  private ParallelLog(int threads, Log origin, Pools pools) {
+    super(() -> new Batches(threads, origin.commits(), pools), pools);
+  }
+
+  /**
+   * The pools started by a log, shut down with it whether or not all their commits were read.
+   */
+  private static final class Pools implements Closeable {
+    private final List<ExecutorService> started = new ArrayList<>(1);
+    private final Closeable origin;
+
+    /**
+     * Ctor.
+     * 
+     * @param origin the log, closed once the pools are shut down
+     */
+    Pools(Closeable origin) {
+      this.origin = origin;
+    }
+
+    /**
+     * Registers a pool.
+     * 
+     * @param pool the pool
+     * @return the pool
+     */
+    synchronized ExecutorService started(ExecutorService pool) {
+      this.started.add(pool);
+      return pool;
+    }
+
+    @Override
+    public void close() throws IOException {
+      synchronized (this) {
+        this.started.forEach(ExecutorService::shutdown);
+        this.started.clear();
+      }
+      this.origin.close();
+    }
+  }
+
+  /**
+   * Commits rendered in batches.
+   */
+  private static final class Batches implements Iterable<Commit> {
+    private static final int PER_THREAD = 64;
+
+    private final int threads;
+    private final Iterable<Commit> origin;
+    private final Pools pools;
+
+    /**
+     * Ctor.
+     * 
+     * @param threads the number of threads that render the commits
+     * @param origin the commits
+     * @param pools where the pool of each iteration is registered
+     */
+    Batches(int threads, Iterable<Commit> origin, Pools pools) {
+      this.threads = threads;
+      this.origin = origin;
+      this.pools = pools;
+    }
+
+    @Override
+    public Iterator<Commit> iterator() {
+      final Iterator<Commit> commits = this.origin.iterator();
+      Iterator<Commit> result = commits;
+      if (this.threads > 1) {
+        final Deque<Commit> ready = new ArrayDeque<>();
+        final ExecutorService pool = this.pools.started(
+          Executors.newFixedThreadPool(this.threads)
+        );
+        result = new Iterator<Commit>() {
+          @Override
+          public boolean hasNext() {
+            if (ready.isEmpty() && commits.hasNext()) {
+              ready.addAll(Batches.this.batch(commits, pool));
+            }
+            return !ready.isEmpty();
+          }
+
+          @Override
+          public Commit next() {
+            if (!this.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            return ready.poll();
+          }
+        };
+      }
+      return result;
+    }
+
+    /**
+     * Reads and renders the next batch of commits. The pool is shut down after the last batch.
+     * 
+     * @param commits the commits
+     * @param pool the pool that renders the commits
+     * @return the batch's commits, rendered, in their original order
+     */
+    private List<Commit> batch(Iterator<Commit> commits, ExecutorService pool) {
+      final List<Commit> batch = this.read(commits);
+      try {
+        return Batches.rendered(batch, pool);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while rendering commits", e);
+      } finally {
+        if (!commits.hasNext()) {
+          pool.shutdown();
+        }
+      }
+    }
+
+    /**
+     * Reads the commits of the next batch.
+     * 
+     * @param commits the commits
+     * @return up to {@link #PER_THREAD} commits per thread
+     */
+    private List<Commit> read(Iterator<Commit> commits) {
+      final List<Commit> batch = new ArrayList<>(this.threads * Batches.PER_THREAD);
+      while (batch.size() < this.threads * Batches.PER_THREAD && commits.hasNext()) {
+        batch.add(commits.next());
+      }
+      return batch;
+    }
+
+    /**
+     * Renders the commits with a pool.
+     * 
+     * @param batch the commits
+     * @param pool the pool
+     * @return the commits, rendered, in their original order
+     * @throws InterruptedException if interrupted while waiting for the pool
+     */
+    private static List<Commit> rendered(
+      List<Commit> batch, ExecutorService pool
+    ) throws InterruptedException {
+      final List<Callable<XML>> tasks = new ArrayList<>(batch.size());
+      for (Commit commit : batch) {
+        tasks.add(commit::asXml);
+      }
+      final List<Future<XML>> xmls = pool.invokeAll(tasks);
+      final List<Commit> rendered = new ArrayList<>(batch.size());
+      for (int idx = 0; idx < batch.size(); ++idx) {
+        rendered.add(new RenderedCommit(batch.get(idx), Batches.xml(xmls.get(idx))));
+      }
+      return rendered;
+    }
+
+    /**
+     * The XML rendered by a task. Failures are rethrown as they were thrown by the commit.
+     * 
+     * @param future the task's result
+     * @return the XML
+     * @throws InterruptedException if interrupted while waiting for the task
+     */
+    private static XML xml(Future<XML> future) throws InterruptedException {
+      try {
+        return future.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException("Cannot render commit", e.getCause());
+      }
+    }
+  }
+}
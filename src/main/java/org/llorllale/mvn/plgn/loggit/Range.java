@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * A range of commits such as {@code v1.2..v1.3}: those reachable from its end but not from
+ * its start, like {@code git log v1.2..v1.3}.
+ * 
+ * <p>The start is marked uninteresting in the walk, which stops once the commits left to
+ * visit are all reachable from it: only the range's commits are parsed, whatever the size
+ * of the history before it. Either side may be omitted: {@code v1.2..} ends at the branch
+ * walked, and an empty range keeps all commits.
+ *
+ * <p>Unlike {@link Reachability}, the range never reads the pack's bitmap index: a bitmap
+ * tells which commits are in the range but not their order, so the range's commits would
+ * still have to be walked to be logged.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Range implements WalkFilter {
+  private static final String DOTS = "..";
+
+  private final Repository repo;
+  private final String range;
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param range the range, as {@code start..end}, or empty for none
+   * @since 1.2.0
+   */
+  Range(Repository repo, String range) {
+    this.repo = repo;
+    this.range = range;
+  }
+
+  /**
+   * The ref at which the range ends.
+   * 
+   * @param branch the ref walked if the range has no end
+   * @return the range's end, or {@code branch}
+   * @throws IOException if the range is invalid or its end cannot be resolved
+   * @since 1.2.0
+   */
+  public String end(String branch) throws IOException {
+    String result = branch;
+    if (!this.range.isEmpty() && !this.side(1).isEmpty()) {
+      result = this.side(1);
+      if (this.repo.resolve(result) == null) {
+        throw new IOException(
+          String.format("Invalid end '%s' of range '%s'", result, this.range)
+        );
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void apply(RevWalk walk) throws IOException {
+    if (!this.range.isEmpty() && !this.side(0).isEmpty()) {
+      final ObjectId start = this.repo.resolve(this.side(0));
+      if (start == null) {
+        throw new IOException(
+          String.format("Invalid start '%s' of range '%s'", this.side(0), this.range)
+        );
+      }
+      walk.markUninteresting(walk.parseCommit(start));
+    }
+  }
+
+  /**
+   * One side of the range.
+   * 
+   * @param index 0 for the start, 1 for the end
+   * @return the side, possibly empty
+   * @throws IOException if the range has no {@code ..}
+   */
+  private String side(int index) throws IOException {
+    final int dots = this.range.indexOf(DOTS);
+    if (dots < 0) {
+      throw new IOException(
+        String.format("Invalid range '%s': expected 'start..end'", this.range)
+      );
+    }
+    final String[] sides = {
+      this.range.substring(0, dots), this.range.substring(dots + DOTS.length()),
+    };
+    return sides[index].trim();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.Collections;
+import org.eclipse.jgit.lib.BitmapIndex;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.revwalk.BitmapWalker;
+import org.eclipse.jgit.revwalk.ObjectWalk;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * Whether a commit is reachable from another.
+ * 
+ * <p>If the repo's pack has a bitmap index (written by {@code git gc} and
+ * {@code git repack -b}), the answer comes from the tip's reachability bitmap. Only the
+ * commits made after the last repack are walked. Without a bitmap index the history is
+ * walked back from the tip until the commit is found or there is nothing left to walk.
+ *
+ * <p>The tip's bitmap is read whole even to test a single commit, but it costs about as much
+ * as walking the few commits between the tip and a recently cached one, and it spares walking
+ * the whole history when the commit is old or not reachable at all, as after a rewrite (see
+ * {@code ReachabilityBenchmark}).
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Reachability {
+  private final RevWalk walk;
+
+  /**
+   * Ctor.
+   * 
+   * @param walk the walk whose reader is used; it is reset when no bitmap index exists
+   * @since 1.2.0
+   */
+  Reachability(RevWalk walk) {
+    this.walk = walk;
+  }
+
+  /**
+   * Whether {@code commit} is reachable from {@code tip}.
+   * 
+   * @param commit the commit
+   * @param tip the tip of the history
+   * @return {@code true} if {@code commit} is {@code tip} or one of its ancestors
+   * @throws IOException if an error occurs reading the repo
+   * @since 1.2.0
+   */
+  boolean reachable(RevCommit commit, RevCommit tip) throws IOException {
+    final BitmapIndex index = this.walk.getObjectReader().getBitmapIndex();
+    final boolean result;
+    if (index == null) {
+      result = this.walk.isMergedInto(commit, tip);
+    } else {
+      try (ObjectWalk objects = new ObjectWalk(this.walk.getObjectReader())) {
+        result = new BitmapWalker(objects, index, NullProgressMonitor.INSTANCE)
+          .findObjects(Collections.singleton(tip), null, true)
+          .contains(commit);
+      }
+    }
+    return result;
+  }
+}
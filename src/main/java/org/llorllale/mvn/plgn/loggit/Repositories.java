@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.UncheckedScalar;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Repository;
+
+/**
+ * Open repositories, shared by everyone that reads the same git dir.
+ * 
+ * <p>Repositories are keyed by their canonical git dir, so every module of a reactor that
+ * points at the same {@code .git} shares one open {@link Repository}: refs and pack indexes
+ * are read once. They stay open until this pool is closed.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see SessionRepositories
+ * @since 1.2.0
+ */
+final class Repositories implements Closeable {
+  private final ConcurrentMap<Path, Repository> pool;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.2.0
+   */
+  Repositories() {
+    this.pool = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * The repository at {@code dir}, opened on first use.
+   * 
+   * @param dir the repository's git dir
+   * @return the repository
+   * @throws IOException if {@code dir} does not exist or the repository cannot be opened
+   * @since 1.2.0
+   */
+  Repository open(Path dir) throws IOException {
+    final Path key = dir.toRealPath();
+    return new IoCheckedScalar<>(
+      () -> this.pool.computeIfAbsent(
+        key, path -> new UncheckedScalar<>(() -> new FileRepository(path.toFile())).value()
+      )
+    ).value();
+  }
+
+  @Override
+  public void close() {
+    for (Path key : this.pool.keySet()) {
+      Optional.ofNullable(this.pool.remove(key)).ifPresent(Repository::close);
+    }
+  }
+}
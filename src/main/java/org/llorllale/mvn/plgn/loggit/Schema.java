@@ -17,19 +17,34 @@
 package org.llorllale.mvn.plgn.loggit;
 
 import com.jcabi.xml.XSD;
-import com.jcabi.xml.XSDDocument;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.xml.XMLConstants;
 import javax.xml.transform.Source;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
 /**
  * The XML schema for the intermediate transformation stage.
  *
+ * <p>The schema is compiled once per JVM and shared by all instances: this class is just
+ * a handle to it. Logs written with only some of the commits' fields are validated against
+ * a partial schema instead, where every field but the id may be missing.
+ *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
 public final class Schema implements XSD {
-  private final String schemaFile;
+  private static final Map<String, javax.xml.validation.Schema> COMPILED =
+    new ConcurrentHashMap<>(2);
+
+  private final String resource;
 
   /**
    * Ctor.
@@ -37,13 +52,63 @@ public final class Schema implements XSD {
    * @since 0.1.0
    */
   public Schema() {
-    this.schemaFile = "/xsd/schema.xsd";
+    this("/xsd/schema.xsd");
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param resource the classpath resource with the schema, eg. {@code /xsd/partial.xsd}
+   * @since 1.2.0
+   */
+  Schema(String resource) {
+    this.resource = resource;
   }
 
   @Override
   public Collection<SAXParseException> validate(Source xml) {
-    return XSDDocument.make(
-      Schema.class.getResourceAsStream(this.schemaFile)
-    ).validate(xml);
+    final Collection<SAXParseException> errors = new CopyOnWriteArrayList<>();
+    final Validator validator = COMPILED.computeIfAbsent(this.resource, Schema::compiled)
+      .newValidator();
+    validator.setErrorHandler(
+      new ErrorHandler() {
+        @Override
+        public void warning(SAXParseException exception) {
+          errors.add(exception);
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+          errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+          errors.add(exception);
+        }
+      }
+    );
+    try {
+      validator.validate(xml);
+    } catch (SAXException | IOException e) {
+      throw new IllegalStateException("Cannot validate the XML", e);
+    }
+    return errors;
+  }
+
+  /**
+   * Compiles a schema.
+   * 
+   * @param resource the classpath resource with the schema
+   * @return the compiled schema
+   */
+  private static javax.xml.validation.Schema compiled(String resource) {
+    try {
+      return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(
+        Schema.class.getResource(resource)
+      );
+    } catch (SAXException e) {
+      throw new IllegalStateException(String.format("Cannot compile schema %s", resource), e);
+    }
   }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * The {@link Changelogs} written during a Maven session.
+ * 
+ * <p>They are kept in the session's data, so every module of the reactor shares them.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class SessionChangelogs {
+  private static final String KEY = Changelogs.class.getName();
+
+  private final MavenSession session;
+
+  /**
+   * Ctor.
+   * 
+   * @param session the Maven session
+   * @since 1.2.0
+   */
+  SessionChangelogs(MavenSession session) {
+    this.session = session;
+  }
+
+  /**
+   * The session's changelogs, created on first use.
+   * 
+   * @return the changelogs
+   * @since 1.2.0
+   */
+  Changelogs value() {
+    final SessionData data = this.session.getRepositorySession().getData();
+    data.set(SessionChangelogs.KEY, null, new Changelogs());
+    return (Changelogs) data.get(SessionChangelogs.KEY);
+  }
+}
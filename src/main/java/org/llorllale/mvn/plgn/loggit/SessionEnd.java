@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+
+/**
+ * Closes a resource when the Maven session ends. Every event is forwarded to the session's
+ * original listener.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MethodCount")
+final class SessionEnd implements ExecutionListener {
+  private final ExecutionListener origin;
+  private final Closeable resource;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the session's listener
+   * @param resource the resource to close when the session ends
+   * @since 1.2.0
+   */
+  SessionEnd(ExecutionListener origin, Closeable resource) {
+    this.origin = origin;
+    this.resource = resource;
+  }
+
+  @Override
+  public void sessionEnded(ExecutionEvent event) {
+    try {
+      this.resource.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      this.origin.sessionEnded(event);
+    }
+  }
+
+  @Override
+  public void projectDiscoveryStarted(ExecutionEvent event) {
+    this.origin.projectDiscoveryStarted(event);
+  }
+
+  @Override
+  public void sessionStarted(ExecutionEvent event) {
+    this.origin.sessionStarted(event);
+  }
+
+  @Override
+  public void projectSkipped(ExecutionEvent event) {
+    this.origin.projectSkipped(event);
+  }
+
+  @Override
+  public void projectStarted(ExecutionEvent event) {
+    this.origin.projectStarted(event);
+  }
+
+  @Override
+  public void projectSucceeded(ExecutionEvent event) {
+    this.origin.projectSucceeded(event);
+  }
+
+  @Override
+  public void projectFailed(ExecutionEvent event) {
+    this.origin.projectFailed(event);
+  }
+
+  @Override
+  public void mojoSkipped(ExecutionEvent event) {
+    this.origin.mojoSkipped(event);
+  }
+
+  @Override
+  public void mojoStarted(ExecutionEvent event) {
+    this.origin.mojoStarted(event);
+  }
+
+  @Override
+  public void mojoSucceeded(ExecutionEvent event) {
+    this.origin.mojoSucceeded(event);
+  }
+
+  @Override
+  public void mojoFailed(ExecutionEvent event) {
+    this.origin.mojoFailed(event);
+  }
+
+  @Override
+  public void forkStarted(ExecutionEvent event) {
+    this.origin.forkStarted(event);
+  }
+
+  @Override
+  public void forkSucceeded(ExecutionEvent event) {
+    this.origin.forkSucceeded(event);
+  }
+
+  @Override
+  public void forkFailed(ExecutionEvent event) {
+    this.origin.forkFailed(event);
+  }
+
+  @Override
+  public void forkedProjectStarted(ExecutionEvent event) {
+    this.origin.forkedProjectStarted(event);
+  }
+
+  @Override
+  public void forkedProjectSucceeded(ExecutionEvent event) {
+    this.origin.forkedProjectSucceeded(event);
+  }
+
+  @Override
+  public void forkedProjectFailed(ExecutionEvent event) {
+    this.origin.forkedProjectFailed(event);
+  }
+}
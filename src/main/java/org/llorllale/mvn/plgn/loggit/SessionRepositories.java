@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.util.Optional;
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * The {@link Repositories} of a Maven session.
+ * 
+ * <p>The pool is kept in the session's data, so every module of the reactor shares it, and
+ * it is closed when the session ends.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class SessionRepositories {
+  private static final String KEY = Repositories.class.getName();
+
+  private final MavenSession session;
+
+  /**
+   * Ctor.
+   * 
+   * @param session the Maven session
+   * @since 1.2.0
+   */
+  SessionRepositories(MavenSession session) {
+    this.session = session;
+  }
+
+  /**
+   * The session's pool, created on first use.
+   * 
+   * @return the pool
+   * @since 1.2.0
+   */
+  Repositories value() {
+    final SessionData data = this.session.getRepositorySession().getData();
+    final Repositories fresh = new Repositories();
+    if (data.set(SessionRepositories.KEY, null, fresh)) {
+      final MavenExecutionRequest request = this.session.getRequest();
+      request.setExecutionListener(
+        new SessionEnd(
+          Optional.ofNullable(request.getExecutionListener())
+            .orElseGet(AbstractExecutionListener::new),
+          fresh
+        )
+      );
+    }
+    return (Repositories) data.get(SessionRepositories.KEY);
+  }
+}
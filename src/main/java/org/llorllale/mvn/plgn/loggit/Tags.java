@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.SolidScalar;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+
+/**
+ * Tags of a git repository, indexed by the commit they point to.
+ * 
+ * <p>The index is built lazily with a single pass over the repository's ref database and
+ * is reused for every lookup thereafter.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class Tags {
+  private final IoCheckedScalar<Map<ObjectId, List<String>>> index;
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the git repository
+   * @since 1.2.0
+   */
+  Tags(Repository repo) {
+    this.index = new IoCheckedScalar<>(
+      new SolidScalar<>(
+        () -> {
+          final Map<ObjectId, List<String>> map = new HashMap<>();
+          for (Ref tag : repo.getRefDatabase().getRefs(Constants.R_TAGS).values()) {
+            final Ref peeled = repo.peel(tag);
+            map.computeIfAbsent(
+              Optional.ofNullable(peeled.getPeeledObjectId()).orElse(peeled.getObjectId()),
+              id -> new ArrayList<>(1)
+            ).add(tag.getName().split("/")[2]);
+          }
+          return map;
+        }
+      )
+    );
+  }
+
+  /**
+   * The short names of the tags pointing to the given commit.
+   * 
+   * @param commit the commit
+   * @return the names of the tags pointing to {@code commit}, possibly empty
+   * @throws IOException if an error occurs reading the ref database
+   * @since 1.2.0
+   */
+  Iterable<String> of(AnyObjectId commit) throws IOException {
+    return this.index.value().getOrDefault(commit, Collections.emptyList());
+  }
+}
@@ -18,7 +18,6 @@ package org.llorllale.mvn.plgn.loggit;
 
 import java.util.Iterator;
 import org.cactoos.scalar.UncheckedScalar;
-import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.xembly.Directive;
@@ -31,7 +30,7 @@ import org.xembly.Directives;
  * @since 0.5.0
  */
 final class TagsOf implements Iterable<Directive> {
-  private final Repository repo;
+  private final Tags tags;
   private final RevCommit commit;
 
   /**
@@ -42,7 +41,18 @@ final class TagsOf implements Iterable<Directive> {
    * @since 0.5.0
    */
   TagsOf(Repository repo, RevCommit commit) {
-    this.repo = repo;
+    this(new Tags(repo), commit);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param tags the repository's tags
+   * @param commit the commit for which to fetch the tags
+   * @since 1.2.0
+   */
+  TagsOf(Tags tags, RevCommit commit) {
+    this.tags = tags;
     this.commit = commit;
   }
 
@@ -51,11 +61,8 @@ final class TagsOf implements Iterable<Directive> {
     return new UncheckedScalar<>(
       () -> {
         final Directives dirs = new Directives();
-        for (Ref tag : new org.eclipse.jgit.api.Git(this.repo).tagList().call()) {
-          final Ref peeled = this.repo.peel(tag);
-          if (this.commit.getId().equals(peeled.getPeeledObjectId())) {
-            dirs.add("tag").set(tag.getName().split("/")[2]).up();
-          }
+        for (String tag : this.tags.of(this.commit)) {
+          dirs.add("tag").set(tag).up();
         }
         return dirs.iterator();
       }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.SolidScalar;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevFlag;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * The logs of several refs, read from a single walk of their union.
+ * 
+ * <p>Each ref's head is marked with a flag of its own that the walk carries to every commit
+ * reachable from it, so history shared by several refs is parsed only once. Once the walk is
+ * over each ref's log is made of the commits that carry its flag, in the walk's order. The
+ * walk happens the first time any of the logs is read.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class UnionLogs {
+  private final Tags tags;
+  private final IoCheckedScalar<Map<String, List<RevCommit>>> walked;
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param refs the refs
+   * @param bodies whether the commits' bodies are kept; without them only the commits' ids
+   *     and tags can be read
+   * @since 1.2.0
+   */
+  UnionLogs(Repository repo, Iterable<String> refs, boolean bodies) {
+    this(repo, refs, walk -> walk.setRetainBody(bodies));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param repo the repo
+   * @param refs the refs
+   * @param filter applied to the walk before it starts
+   * @since 1.2.0
+   */
+  UnionLogs(Repository repo, Iterable<String> refs, WalkFilter filter) {
+    this.tags = new Tags(repo);
+    this.walked = new IoCheckedScalar<>(
+      new SolidScalar<>(() -> UnionLogs.walk(repo, refs, filter))
+    );
+  }
+
+  /**
+   * The log of one of the refs.
+   * 
+   * @param ref the ref
+   * @return the commits reachable from {@code ref}
+   * @since 1.2.0
+   */
+  Log log(String ref) {
+    return new Branch(() -> new Mapped<>(
+      commit -> new DefaultCommit(this.tags, commit),
+      UnionLogs.commits(this.walked.value(), ref)
+    ));
+  }
+
+  /**
+   * The commits of a ref.
+   * 
+   * @param logs the commits of each ref
+   * @param ref the ref
+   * @return the ref's commits
+   * @throws IOException if {@code ref} is not one of the walked refs
+   */
+  private static List<RevCommit> commits(
+    Map<String, List<RevCommit>> logs, String ref
+  ) throws IOException {
+    final List<RevCommit> commits = logs.get(ref);
+    if (commits == null) {
+      throw new IOException(String.format("Ref %s was not walked", ref));
+    }
+    return commits;
+  }
+
+  /**
+   * Walks the union of the refs' histories.
+   * 
+   * @param repo the repo
+   * @param refs the refs
+   * @param filter applied to the walk before it starts
+   * @return the commits reachable from each ref that pass the filter, in the walk's order
+   * @throws IOException if a ref is invalid or an error occurs reading the repo
+   */
+  private static Map<String, List<RevCommit>> walk(
+    Repository repo, Iterable<String> refs, WalkFilter filter
+  ) throws IOException {
+    try (RevWalk walk = new RevWalk(repo)) {
+      filter.apply(walk);
+      final Map<String, RevFlag> flags = new LinkedHashMap<>();
+      for (String ref : refs) {
+        final RevFlag flag = walk.newFlag(ref);
+        walk.carry(flag);
+        final RevCommit head = walk.parseCommit(UnionLogs.head(repo, ref));
+        head.add(flag);
+        walk.markStart(head);
+        flags.put(ref, flag);
+      }
+      final List<RevCommit> union = new ArrayList<>();
+      walk.forEach(union::add);
+      final Map<String, List<RevCommit>> logs = new HashMap<>();
+      for (Map.Entry<String, RevFlag> flag : flags.entrySet()) {
+        logs.put(flag.getKey(), UnionLogs.flagged(union, flag.getValue()));
+      }
+      return logs;
+    }
+  }
+
+  /**
+   * The commit a ref points to.
+   * 
+   * @param repo the repo
+   * @param ref the ref's name
+   * @return the ref's head
+   * @throws IOException if the ref does not exist
+   */
+  private static ObjectId head(Repository repo, String ref) throws IOException {
+    final Ref found = repo.findRef(ref);
+    if (found == null) {
+      throw new IOException(String.format("Invalid ref provided: %s", ref));
+    }
+    return found.getObjectId();
+  }
+
+  /**
+   * The commits with a flag.
+   * 
+   * @param commits the commits
+   * @param flag the flag
+   * @return the commits with {@code flag}, in their original order
+   */
+  private static List<RevCommit> flagged(List<RevCommit> commits, RevFlag flag) {
+    final List<RevCommit> flagged = new ArrayList<>(commits.size());
+    for (RevCommit commit : commits) {
+      if (commit.has(flag)) {
+        flagged.add(commit);
+      }
+    }
+    return flagged;
+  }
+
+  /**
+   * A ref's log.
+   */
+  private static final class Branch extends LogEnvelope {
+    /**
+     * Ctor.
+     * 
+     * @param commits the ref's commits
+     */
+    Branch(Scalar<Iterable<Commit>> commits) {
+      super(commits);
+    }
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import com.jcabi.xml.XML;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import org.cactoos.io.OutputTo;
+import org.llorllale.mvn.plgn.loggit.xsl.TinyXml;
+import org.xml.sax.SAXParseException;
+
+/**
+ * How much of the log's XML is validated against the {@link Schema}.
+ * 
+ * <p>{@code strict} validates every commit and then the whole log, {@code final} validates
+ * only the whole log once, and {@code off} trusts the XML as it is generated.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class Validation {
+  private final String mode;
+  private final Metrics metrics;
+  private final int threads;
+
+  /**
+   * Ctor.
+   * 
+   * @param mode one of {@code strict}, {@code final} or {@code off}
+   * @since 1.2.0
+   */
+  Validation(String mode) {
+    this(mode, new Metrics());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param mode one of {@code strict}, {@code final} or {@code off}
+   * @param metrics where the time spent validating the whole log is recorded as the
+   *     {@code validation} phase
+   * @since 1.2.0
+   */
+  Validation(String mode, Metrics metrics) {
+    this(mode, metrics, 1);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param mode one of {@code strict}, {@code final} or {@code off}
+   * @param metrics where the time spent validating the whole log is recorded as the
+   *     {@code validation} phase
+   * @param threads the number of threads that render and validate each commit in
+   *     {@code strict} mode; they have no effect in the other modes
+   * @since 1.2.0
+   */
+  Validation(String mode, Metrics metrics, int threads) {
+    this.mode = mode;
+    this.metrics = metrics;
+    this.threads = threads;
+  }
+
+  /**
+   * The log as XML, validated according to this mode. The XML is a {@link TinyXml} tree that
+   * the stylesheets read without converting it to a DOM.
+   * 
+   * @param log the log
+   * @return the log's XML
+   * @throws IOException if the log cannot be read, is invalid or the mode is unknown
+   * @since 1.2.0
+   */
+  XML xml(Log log) throws IOException {
+    return this.xml(log, new Fields());
+  }
+
+  /**
+   * The log as XML with only the given fields of each commit, validated according to this
+   * mode. {@code strict} validates every commit's complete XML, so it has all fields;
+   * {@code final} validates a log with only some of the fields against the partial schema.
+   * 
+   * @param log the log
+   * @param fields the fields of each commit
+   * @return the log's XML
+   * @throws IOException if the log cannot be read, is invalid or the mode is unknown
+   * @since 1.2.0
+   */
+  XML xml(Log log, Fields fields) throws IOException {
+    final XML xml;
+    if (this.trusting()) {
+      xml = new TinyXml(writer -> new XmlStream(log, fields).writeTo(writer));
+    } else if ("final".equals(this.mode)) {
+      xml = this.checked(log, fields);
+    } else {
+      xml = this.parallel(log);
+    }
+    return xml;
+  }
+
+  /**
+   * The log as XML, each commit rendered and validated by this mode's threads. The threads
+   * are shut down once the XML is built.
+   * 
+   * @param log the log
+   * @return the log's XML
+   * @throws IOException if the log cannot be read or is invalid
+   */
+  private XML parallel(Log log) throws IOException {
+    try (Log parallel = new ParallelLog(this.threads, log)) {
+      return new TinyXml(new DOMSource(parallel.asXml().node()));
+    }
+  }
+
+  /**
+   * Validates a log already written to {@code file}. The file is validated once as a whole
+   * in both {@code strict} and {@code final} modes, against the partial schema if the log
+   * has only some of the commits' fields.
+   * 
+   * @param file the file with the log's XML
+   * @param fields the fields of each commit in the log
+   * @throws IOException if the file's XML is invalid or the mode is unknown
+   * @since 1.2.0
+   */
+  void check(File file, Fields fields) throws IOException {
+    if (!this.trusting()) {
+      this.validate(new StreamSource(file), file, fields);
+    }
+  }
+
+  /**
+   * The log's XML, streamed to a temporary file that is validated and then parsed, so that
+   * the only copy of the log kept in memory is the parsed tree.
+   * 
+   * @param log the log
+   * @param fields the fields of each commit
+   * @return the log's XML
+   * @throws IOException if the log cannot be read or written, or is invalid
+   */
+  private XML checked(Log log, Fields fields) throws IOException {
+    final Path tmp = Files.createTempFile("loggit", ".xml");
+    try {
+      new XmlStream(log, fields).writeTo(new OutputTo(tmp));
+      this.validate(new StreamSource(tmp.toFile()), "log", fields);
+      return new TinyXml(new StreamSource(tmp.toFile()));
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Whether the XML is trusted without validation.
+   * 
+   * @return {@code true} if the mode is {@code off}
+   * @throws IOException if the mode is unknown
+   */
+  private boolean trusting() throws IOException {
+    if (!Arrays.asList("strict", "final", "off").contains(this.mode)) {
+      throw new IOException(String.format("Unknown validation mode: %s", this.mode));
+    }
+    return "off".equals(this.mode);
+  }
+
+  /**
+   * Validates a document against the {@link Schema}.
+   * 
+   * @param source the document
+   * @param name the document's name, for the error message
+   * @param fields the fields of each commit in the document
+   * @throws IOException if the document is invalid
+   */
+  private void validate(Source source, Object name, Fields fields) throws IOException {
+    final Schema schema = Validation.schema(fields);
+    final Collection<SAXParseException> errors = this.metrics.timed(
+      "validation", () -> schema.validate(source)
+    );
+    if (!errors.isEmpty()) {
+      throw new IOException(
+        String.format("Invalid XML in %s: %s", name, errors.iterator().next().getMessage())
+      );
+    }
+  }
+
+  /**
+   * The schema of a log: logs with only some of the commits' fields are validated against the
+   * partial schema, where every field but the id may be missing.
+   * 
+   * @param fields the fields of each commit in the log
+   * @return the schema
+   * @throws IOException if a field's name is unknown
+   */
+  private static Schema schema(Fields fields) throws IOException {
+    Schema schema = new Schema();
+    if (!fields.all()) {
+      schema = new Schema("/xsd/partial.xsd");
+    }
+    return schema;
+  }
+}
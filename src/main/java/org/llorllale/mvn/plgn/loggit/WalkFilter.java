@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * Narrows down what a walk of the repo reads and emits, before it starts.
+ * 
+ * <p>Commits filtered out by the walk itself are never turned into {@link Commit}s, which is
+ * cheaper than filtering the {@link Log} they'd be in.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+interface WalkFilter {
+  /**
+   * Applies this filter to the walk.
+   * 
+   * @param walk the walk, not yet started
+   * @throws IOException if the filter cannot be applied
+   * @since 1.2.0
+   */
+  void apply(RevWalk walk) throws IOException;
+}
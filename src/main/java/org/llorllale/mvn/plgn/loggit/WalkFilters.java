@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import org.cactoos.iterable.IterableOf;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * Several {@link WalkFilter}s, applied in order.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class WalkFilters implements WalkFilter {
+  private final Iterable<WalkFilter> filters;
+
+  /**
+   * Ctor.
+   * 
+   * @param filters the filters
+   * @since 1.2.0
+   */
+  WalkFilters(WalkFilter... filters) {
+    this(new IterableOf<>(filters));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param filters the filters
+   * @since 1.2.0
+   */
+  WalkFilters(Iterable<WalkFilter> filters) {
+    this.filters = filters;
+  }
+
+  @Override
+  public void apply(RevWalk walk) throws IOException {
+    for (WalkFilter filter : this.filters) {
+      filter.apply(walk);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.cactoos.Output;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoCheckedScalar;
+
+/**
+ * Writes a {@link Log} as XML one commit at a time.
+ * 
+ * <p>The output is the same document as {@link Log#asXml()} but it is never held in memory
+ * as a whole: each commit is written to the output as soon as it is read from the log.
+ * 
+ * <p>Only the {@link Fields} given are read from the commits and written. The elements of
+ * the fields left out are omitted, and so are their parents if they end up empty.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class XmlStream {
+  private static final String FAILURE = "Cannot write log as XML";
+
+  private final Log log;
+  private final Fields fields;
+
+  /**
+   * Ctor. All fields are written.
+   * 
+   * @param log the log to write
+   * @since 1.2.0
+   */
+  XmlStream(Log log) {
+    this(log, new Fields());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param log the log to write
+   * @param fields the fields of each commit to write
+   * @since 1.2.0
+   */
+  XmlStream(Log log, Fields fields) {
+    this.log = log;
+    this.fields = fields;
+  }
+
+  /**
+   * Writes the log to {@code output}. The output is opened only once the log's commits
+   * have been resolved.
+   * 
+   * @param output where to write the log
+   * @throws IOException if an error occurs reading the log or writing to {@code output}
+   * @since 1.2.0
+   */
+  void writeTo(Output output) throws IOException {
+    final Iterable<Commit> commits = this.log.commits();
+    final String encoding = StandardCharsets.UTF_8.name();
+    try (OutputStream out = output.stream()) {
+      final XMLStreamWriter xml = XMLOutputFactory.newInstance()
+        .createXMLStreamWriter(out, encoding);
+      this.write(commits, xml);
+      xml.close();
+    } catch (XMLStreamException e) {
+      throw new IOException(XmlStream.FAILURE, e);
+    }
+  }
+
+  /**
+   * Writes the log's events to {@code xml}, eg. to build a tree from them.
+   * 
+   * @param xml the XML writer
+   * @throws IOException if an error occurs reading the log or writing to {@code xml}
+   * @since 1.2.0
+   */
+  void writeTo(XMLStreamWriter xml) throws IOException {
+    try {
+      this.write(this.log.commits(), xml);
+    } catch (XMLStreamException e) {
+      throw new IOException(XmlStream.FAILURE, e);
+    }
+  }
+
+  /**
+   * Writes the whole document.
+   * 
+   * @param commits the log's commits
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   * @throws IOException if an error occurs reading the commits
+   */
+  private void write(Iterable<Commit> commits, XMLStreamWriter xml)
+      throws XMLStreamException, IOException {
+    xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+    xml.writeStartElement("log");
+    xml.writeStartElement("commits");
+    for (Commit commit : commits) {
+      this.write(commit, xml);
+    }
+    xml.writeEndDocument();
+  }
+
+  /**
+   * Writes a single commit.
+   * 
+   * @param commit the commit
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   * @throws IOException if an error occurs reading the commit
+   */
+  private void write(Commit commit, XMLStreamWriter xml) throws XMLStreamException, IOException {
+    xml.writeStartElement("commit");
+    this.element("id", commit.id(), xml);
+    this.author(commit, xml);
+    this.message(commit, xml);
+    this.tags(commit, xml);
+    xml.writeEndElement();
+  }
+
+  /**
+   * Writes the commit's author, if any of its fields is written.
+   * 
+   * @param commit the commit
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   * @throws IOException if an error occurs reading the commit
+   */
+  private void author(Commit commit, XMLStreamWriter xml)
+      throws XMLStreamException, IOException {
+    if (this.any("author", "email", "date")) {
+      xml.writeStartElement("author");
+      this.field("author", "name", commit::author, xml);
+      this.field("email", "email", commit::email, xml);
+      this.field("date", "date", () -> commit.date().toString(), xml);
+      xml.writeEndElement();
+    }
+  }
+
+  /**
+   * Writes the commit's message, if any of its fields is written.
+   * 
+   * @param commit the commit
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   * @throws IOException if an error occurs reading the commit
+   */
+  private void message(Commit commit, XMLStreamWriter xml)
+      throws XMLStreamException, IOException {
+    if (this.any("short", "full")) {
+      xml.writeStartElement("message");
+      this.field("short", "short", commit::shortMessage, xml);
+      this.field("full", "full", commit::fullMessage, xml);
+      xml.writeEndElement();
+    }
+  }
+
+  /**
+   * Writes the commit's tags, if they are written. They are looked up only then.
+   * 
+   * @param commit the commit
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   * @throws IOException if an error occurs reading the tags
+   */
+  private void tags(Commit commit, XMLStreamWriter xml) throws XMLStreamException, IOException {
+    if (this.fields.has("tags")) {
+      xml.writeStartElement("taggedAs");
+      for (String tag : commit.tags()) {
+        this.element("tag", tag, xml);
+      }
+      xml.writeEndElement();
+    }
+  }
+
+  /**
+   * Whether any of the fields is written.
+   * 
+   * @param names the fields' names
+   * @return {@code true} if at least one of them is written
+   * @throws IOException if a field's name is unknown
+   */
+  private boolean any(String... names) throws IOException {
+    boolean any = false;
+    for (String name : names) {
+      any |= this.fields.has(name);
+    }
+    return any;
+  }
+
+  /**
+   * Writes a field's element, if the field is written. Its text is read only then.
+   * 
+   * @param field the field's name
+   * @param name the element's name
+   * @param text the element's text
+   * @param xml the writer
+   * @throws XMLStreamException if an error occurs writing the element
+   * @throws IOException if the text cannot be read
+   */
+  private void field(String field, String name, Scalar<String> text, XMLStreamWriter xml)
+      throws XMLStreamException, IOException {
+    if (this.fields.has(field)) {
+      this.element(name, new IoCheckedScalar<>(text).value(), xml);
+    }
+  }
+
+  /**
+   * Writes an element with text content.
+   * 
+   * @param name the element's name
+   * @param text the element's text
+   * @param xml the XML writer
+   * @throws XMLStreamException if an error occurs writing the XML
+   */
+  private void element(String name, String text, XMLStreamWriter xml) throws XMLStreamException {
+    xml.writeStartElement(name);
+    xml.writeCharacters(text);
+    xml.writeEndElement();
+  }
+}
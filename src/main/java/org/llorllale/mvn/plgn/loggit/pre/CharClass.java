@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+
+/**
+ * The translation of an XPath character class, such as {@code [^a-z\d-[aeiou]]}, to a Java
+ * character class that matches the same characters on all JDKs.
+ * 
+ * <p>The class is parsed into unions, subtractions and negations of flat classes, that are
+ * written as {@link Chars}: multi-character escapes such as {@code \s} are kept apart as
+ * flat classes of their own, so that {@code [^\s]} becomes {@code [^ \t\n\r]}. A
+ * subtraction {@code [a-z-[aeiou]]} is written as the intersection
+ * {@code [[a-z]&&[^aeiou]]}, and {@code [^a-z-[aeiou]]}, whose {@code ^} applies to
+ * {@code a-z} only, as {@code [[^a-z]&&[^aeiou]]}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class CharClass {
+  private static final String NAME_START = String.join(
+    "",
+    ":A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF",
+    "\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF",
+    "\\uFDF0-\\uFFFD\\x{10000}-\\x{EFFFF}"
+  );
+  private static final String NAME = String.join(
+    "", CharClass.NAME_START, "\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040"
+  );
+  private static final Map<Character, Chars> ESCAPES = new MapOf<>(
+    new MapEntry<>('d', new Chars.Flat("\\p{Nd}", false)),
+    new MapEntry<>('D', new Chars.Flat("\\p{Nd}", true)),
+    new MapEntry<>('s', new Chars.Flat(" \\t\\n\\r", false)),
+    new MapEntry<>('S', new Chars.Flat(" \\t\\n\\r", true)),
+    new MapEntry<>('w', new Chars.Flat("\\p{P}\\p{Z}\\p{C}", true)),
+    new MapEntry<>('W', new Chars.Flat("\\p{P}\\p{Z}\\p{C}", false)),
+    new MapEntry<>('i', new Chars.Flat(CharClass.NAME_START, false)),
+    new MapEntry<>('I', new Chars.Flat(CharClass.NAME_START, true)),
+    new MapEntry<>('c', new Chars.Flat(CharClass.NAME, false)),
+    new MapEntry<>('C', new Chars.Flat(CharClass.NAME, true))
+  );
+  private static final String SPECIAL = "[]\\^-&";
+
+  private final String regex;
+  private int pos;
+
+  /**
+   * Ctor.
+   * 
+   * @param regex the XPath regular expression
+   * @param start the position of the class's opening {@code [}
+   * @since 1.2.0
+   */
+  CharClass(String regex, int start) {
+    this.regex = regex;
+    this.pos = start;
+  }
+
+  /**
+   * The Java class of a multi-character escape such as {@code \d}, valid outside classes.
+   * 
+   * @param chr the escaped character
+   * @return the class, or {@code null} if {@code chr} isn't a multi-character escape
+   * @since 1.2.0
+   */
+  static String escape(char chr) {
+    String result = null;
+    if (CharClass.ESCAPES.containsKey(chr)) {
+      result = CharClass.ESCAPES.get(chr).java(false);
+    }
+    return result;
+  }
+
+  /**
+   * The translated class.
+   * 
+   * @return the Java character class
+   * @throws PatternSyntaxException if the class isn't closed
+   * @since 1.2.0
+   */
+  String value() {
+    return this.parsed().java(false);
+  }
+
+  /**
+   * The position after the class, once it is translated.
+   * 
+   * @return the position
+   * @since 1.2.0
+   */
+  int end() {
+    return this.pos;
+  }
+
+  /**
+   * Parses the class whose opening {@code [} is at the current position, up to its closing
+   * {@code ]}.
+   * 
+   * @return the class
+   */
+  private Chars parsed() {
+    this.pos += 1;
+    final boolean negated = this.regex.startsWith("^", this.pos);
+    if (negated) {
+      this.pos += 1;
+    }
+    Chars result = new Chars.Negated(this.items(), negated);
+    if (this.regex.startsWith("-[", this.pos)) {
+      this.pos += 1;
+      result = new Chars.Minus(result, this.parsed());
+    }
+    this.available(0);
+    this.pos += 1;
+    return result;
+  }
+
+  /**
+   * Parses the class's items, up to its closing {@code ]} or to a subtraction.
+   * 
+   * @return the union of the items
+   */
+  private Chars items() {
+    final StringBuilder items = new StringBuilder();
+    final List<Chars> parts = new ArrayList<>(1);
+    while (!this.over()) {
+      this.item(items, parts);
+    }
+    if (items.length() > 0) {
+      parts.add(0, new Chars.Flat(items.toString(), false));
+    }
+    return new Chars.Union(parts);
+  }
+
+  /**
+   * Whether the class's items are over: at its closing {@code ]} or at a subtraction.
+   * 
+   * @return {@code true} if so
+   */
+  private boolean over() {
+    return this.regex.startsWith("]", this.pos) || this.regex.startsWith("-[", this.pos);
+  }
+
+  /**
+   * Parses the item at the current position: a multi-character escape is kept apart as a
+   * class of its own, while properties, characters and ranges are appended to the items.
+   * 
+   * @param items the class's properties, characters and ranges
+   * @param parts the class's multi-character escapes
+   */
+  private void item(StringBuilder items, List<Chars> parts) {
+    this.available(0);
+    if (this.multi()) {
+      parts.add(CharClass.ESCAPES.get(this.regex.charAt(this.pos + 1)));
+      this.pos += 2;
+    } else if (this.regex.startsWith("\\p{", this.pos) || this.regex.startsWith("\\P{", this.pos)) {
+      items.append(this.property());
+    } else {
+      items.append(this.range());
+    }
+  }
+
+  /**
+   * Whether a multi-character escape such as {@code \d} is at the current position.
+   * 
+   * @return {@code true} if so
+   */
+  private boolean multi() {
+    return this.regex.charAt(this.pos) == '\\' && this.pos + 1 < this.regex.length()
+      && CharClass.ESCAPES.containsKey(this.regex.charAt(this.pos + 1));
+  }
+
+  /**
+   * Parses a character or a range of characters such as {@code a-z}.
+   * 
+   * @return the Java character or range
+   */
+  private String range() {
+    final StringBuilder range = new StringBuilder(this.single());
+    if (this.regex.startsWith("-", this.pos) && !this.regex.startsWith("-]", this.pos)
+      && !this.regex.startsWith("-[", this.pos)) {
+      this.pos += 1;
+      range.append('-').append(this.single());
+    }
+    return range.toString();
+  }
+
+  /**
+   * Parses a {@code \p{...}} or {@code \P{...}} property; XPath's blocks {@code IsBlock} are
+   * Java's {@code InBlock}.
+   * 
+   * @return the Java property
+   */
+  private String property() {
+    int close = this.regex.indexOf('}', this.pos);
+    if (close < 0) {
+      close = this.regex.length() - 1;
+    }
+    final String property = this.regex.substring(this.pos, close + 1);
+    this.pos = close + 1;
+    return property.replaceFirst("^(\\\\[pP]\\{)Is", "$1In");
+  }
+
+  /**
+   * Parses a character or a single-character escape such as {@code \n}.
+   * 
+   * @return the character, escaped if Java gives it a meaning within classes
+   */
+  private String single() {
+    this.available(0);
+    String result;
+    if (this.regex.charAt(this.pos) == '\\') {
+      this.available(1);
+      result = "\\" + this.regex.charAt(this.pos + 1);
+      this.pos += 2;
+    } else {
+      final int chr = this.regex.codePointAt(this.pos);
+      this.pos += Character.charCount(chr);
+      result = new String(Character.toChars(chr));
+      if (CharClass.SPECIAL.contains(result)) {
+        result = "\\" + result;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks that the regex goes on for a few characters past the current position.
+   * 
+   * @param after the number of characters needed after the current one
+   * @throws PatternSyntaxException if the class isn't closed
+   */
+  private void available(int after) {
+    if (this.pos + after >= this.regex.length()) {
+      throw new PatternSyntaxException("Unclosed '['", this.regex, this.pos);
+    }
+  }
+}
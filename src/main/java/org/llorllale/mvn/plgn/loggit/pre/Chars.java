@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A set of characters, written as a Java character class that doesn't negate the classes
+ * nested in it: Java 8 doesn't apply a class's {@code ^} to its nested classes while later
+ * JDKs do, and they also disagree on how {@code ^} binds with {@code &&}. A complement is
+ * pushed down to the flat classes instead, as the union of the complements of an
+ * intersection's classes, or the intersection of those of a union's.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+interface Chars {
+  /**
+   * The Java character class of this set or of its complement.
+   * 
+   * @param complement whether to write the complement
+   * @return the Java character class
+   * @since 1.2.0
+   */
+  String java(boolean complement);
+
+  /**
+   * A flat class, whose items are characters, ranges and properties only.
+   * 
+   * @since 1.2.0
+   */
+  final class Flat implements Chars {
+    private final String items;
+    private final boolean negated;
+
+    /**
+     * Ctor.
+     * 
+     * @param items the items, as in a Java character class
+     * @param negated whether the class is negated
+     * @since 1.2.0
+     */
+    Flat(String items, boolean negated) {
+      this.items = items;
+      this.negated = negated;
+    }
+
+    @Override
+    public String java(boolean complement) {
+      final String format;
+      if (complement == this.negated) {
+        format = "[%s]";
+      } else {
+        format = "[^%s]";
+      }
+      return String.format(format, this.items);
+    }
+  }
+
+  /**
+   * The union of sets.
+   * 
+   * @since 1.2.0
+   */
+  final class Union implements Chars {
+    private final List<Chars> sets;
+
+    /**
+     * Ctor.
+     * 
+     * @param sets the sets, at least one
+     * @since 1.2.0
+     */
+    Union(List<Chars> sets) {
+      this.sets = sets;
+    }
+
+    @Override
+    public String java(boolean complement) {
+      final String result;
+      if (this.sets.size() == 1) {
+        result = this.sets.get(0).java(complement);
+      } else {
+        result = this.sets.stream().map(set -> set.java(complement)).collect(
+          Collectors.joining(new Operator(complement).value(), "[", "]")
+        );
+      }
+      return result;
+    }
+  }
+
+  /**
+   * The subtraction of a set from another: the intersection of the first with the complement
+   * of the second.
+   * 
+   * @since 1.2.0
+   */
+  final class Minus implements Chars {
+    private final Chars base;
+    private final Chars sub;
+
+    /**
+     * Ctor.
+     * 
+     * @param base the set subtracted from
+     * @param sub the set subtracted
+     * @since 1.2.0
+     */
+    Minus(Chars base, Chars sub) {
+      this.base = base;
+      this.sub = sub;
+    }
+
+    @Override
+    public String java(boolean complement) {
+      return String.format(
+        "[%s%s%s]",
+        this.base.java(complement), new Operator(!complement).value(),
+        this.sub.java(!complement)
+      );
+    }
+  }
+
+  /**
+   * A set, or its complement.
+   * 
+   * @since 1.2.0
+   */
+  final class Negated implements Chars {
+    private final Chars set;
+    private final boolean negated;
+
+    /**
+     * Ctor.
+     * 
+     * @param set the set
+     * @param negated whether the set is negated
+     * @since 1.2.0
+     */
+    Negated(Chars set, boolean negated) {
+      this.set = set;
+      this.negated = negated;
+    }
+
+    @Override
+    public String java(boolean complement) {
+      return this.set.java(complement != this.negated);
+    }
+  }
+
+  /**
+   * The operator that combines nested classes: {@code &&} to intersect them, nothing to unite
+   * them.
+   * 
+   * @since 1.2.0
+   */
+  final class Operator {
+    private final boolean intersection;
+
+    /**
+     * Ctor.
+     * 
+     * @param intersection whether the classes are intersected
+     * @since 1.2.0
+     */
+    Operator(boolean intersection) {
+      this.intersection = intersection;
+    }
+
+    /**
+     * The operator.
+     * 
+     * @return the operator
+     * @since 1.2.0
+     */
+    String value() {
+      String result = "";
+      if (this.intersection) {
+        result = "&&";
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import org.cactoos.iterable.Filtered;
+import org.llorllale.mvn.plgn.loggit.Log;
+import org.llorllale.mvn.plgn.loggit.LogEnvelope;
+
+/**
+ * Excludes commits with messages that match a given regular expression.
+ * 
+ * <p>The regular expression {@code .*} is treated as "no value" and excludes nothing.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see <a href="https://www.w3.org/TR/xpath-functions-30/#func-matches">fn:matches</a>
+ * @see <a href="https://www.w3.org/TR/xpath-functions-30/#flags">Flags</a>
+ * @since 1.2.0
+ */
+public final class Exclude extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param regex the regular expression
+   * @param flags regex flags
+   * @param log the log to filter
+   * @since 1.2.0
+   */
+  public Exclude(String regex, String flags, Log log) {
+    this(new Regex(regex, flags), log);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param regex the regular expression
+   * @param log the log to filter
+   */
+  private Exclude(Regex regex, Log log) {
+    super(() -> new Filtered<>(
+      commit -> regex.any() || !regex.foundIn(commit.fullMessage()),
+      log.commits()
+    ), log);
+  }
+}
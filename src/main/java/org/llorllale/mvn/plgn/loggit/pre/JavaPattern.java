@@ -0,0 +1,262 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+
+/**
+ * An XPath regular expression and its flags, translated to a {@link Pattern} that matches
+ * the same text.
+ * 
+ * <p>The flags {@code s}, {@code m}, {@code i}, {@code x} and {@code q} are translated, as
+ * are the constructs whose meaning differs between the two syntaxes: {@code .} and
+ * {@code $} (which in XPath only know {@code \n} and {@code \r} as line ends), the
+ * {@code \d}, {@code \s}, {@code \w}, {@code \i} and {@code \c} escapes and their negations,
+ * {@code \p{IsBlock}} and character classes, which {@link CharClass} translates. The
+ * {@code x} flag drops whitespace outside character classes only, and doesn't make {@code #}
+ * start a comment.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see <a href="https://www.w3.org/TR/xpath-functions-30/#regex-syntax">Regex syntax</a>
+ * @see <a href="https://www.w3.org/TR/xpath-functions-30/#flags">Flags</a>
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class JavaPattern {
+  private static final String FLAGS = "smixq";
+  private static final String WHITESPACE = " \t\n\r";
+  private final String regex;
+  private final String flags;
+
+  /**
+   * Ctor.
+   * 
+   * @param regex the XPath regular expression
+   * @param flags the XPath regex flags
+   * @since 1.2.0
+   */
+  JavaPattern(String regex, String flags) {
+    this.regex = regex;
+    this.flags = flags;
+  }
+
+  /**
+   * Compiles the translated pattern.
+   * 
+   * @return the pattern
+   * @throws IOException if a flag is unknown or the regular expression is invalid
+   * @since 1.2.0
+   */
+  Pattern value() throws IOException {
+    this.check();
+    try {
+      return this.compiled();
+    } catch (PatternSyntaxException e) {
+      throw new IOException(String.format("Invalid regex '%s'", this.regex), e);
+    }
+  }
+
+  /**
+   * Checks that all flags are known.
+   * 
+   * @throws IOException if a flag is unknown
+   */
+  private void check() throws IOException {
+    for (char flag : this.flags.toCharArray()) {
+      if (JavaPattern.FLAGS.indexOf(flag) < 0) {
+        throw new IOException(String.format("Invalid regex flag '%s'", flag));
+      }
+    }
+  }
+
+  /**
+   * Compiles the pattern: with the {@code q} flag all characters are taken literally.
+   * 
+   * @return the pattern
+   */
+  private Pattern compiled() {
+    final int caseless = this.mode('i', Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    final Pattern pattern;
+    if (this.flags.indexOf('q') >= 0) {
+      pattern = Pattern.compile(this.regex, Pattern.LITERAL | caseless);
+    } else {
+      pattern = Pattern.compile(
+        new Translation(this.regex, this.flags).value(),
+        Pattern.UNIX_LINES | this.mode('s', Pattern.DOTALL) | this.mode('m', Pattern.MULTILINE)
+          | caseless
+      );
+    }
+    return pattern;
+  }
+
+  /**
+   * The pattern's mode for a flag.
+   * 
+   * @param flag the flag
+   * @param mode the mode that the flag translates to
+   * @return {@code mode} if the flag is given, otherwise {@code 0}
+   */
+  private int mode(char flag, int mode) {
+    int result = 0;
+    if (this.flags.indexOf(flag) >= 0) {
+      result = mode;
+    }
+    return result;
+  }
+
+  /**
+   * The translation of a regular expression, one character or escape at a time.
+   */
+  private static final class Translation {
+    private final String regex;
+    private final boolean extended;
+    private final Map<Character, String> outside;
+    private final StringBuilder out;
+    private int pos;
+
+    /**
+     * Ctor.
+     * 
+     * @param regex the XPath regular expression
+     * @param flags the XPath regex flags
+     */
+    Translation(String regex, String flags) {
+      this.regex = regex;
+      this.extended = flags.indexOf('x') >= 0;
+      this.outside = new MapOf<>(
+        new MapEntry<>('.', Translation.unless(flags, 's', ".", "[^\\n\\r]")),
+        new MapEntry<>('$', Translation.unless(flags, 'm', "$", "\\z"))
+      );
+      this.out = new StringBuilder(regex.length());
+    }
+
+    /**
+     * The translated regular expression.
+     * 
+     * @return the Java regular expression
+     */
+    String value() {
+      while (this.pos < this.regex.length()) {
+        final char chr = this.regex.charAt(this.pos);
+        if (chr == '\\') {
+          this.escape();
+        } else if (chr == '[') {
+          this.charClass();
+        } else {
+          this.outsideClass(chr);
+        }
+      }
+      return this.out.toString();
+    }
+
+    /**
+     * Translates an escape. A trailing backslash is kept, for the pattern to be rejected.
+     */
+    private void escape() {
+      if (this.pos + 1 < this.regex.length()) {
+        this.escaped(this.regex.charAt(this.pos + 1));
+      } else {
+        this.out.append('\\');
+        this.pos += 1;
+      }
+    }
+
+    /**
+     * Translates the escape of a character.
+     * 
+     * @param chr the escaped character
+     */
+    private void escaped(char chr) {
+      final String cls = CharClass.escape(chr);
+      if (cls != null) {
+        this.out.append(cls);
+        this.pos += 2;
+      } else if (this.block()) {
+        this.out.append('\\').append(chr).append("{In");
+        this.pos += "\\p{Is".length();
+      } else {
+        this.out.append('\\').append(chr);
+        this.pos += 2;
+      }
+    }
+
+    /**
+     * Whether the current escape is a {@code \p{IsBlock}} or {@code \P{IsBlock}}.
+     * 
+     * @return {@code true} if so
+     */
+    private boolean block() {
+      return this.regex.startsWith("p{Is", this.pos + 1)
+        || this.regex.startsWith("P{Is", this.pos + 1);
+    }
+
+    /**
+     * Translates a character class.
+     * 
+     * @see CharClass
+     */
+    private void charClass() {
+      final CharClass cls = new CharClass(this.regex, this.pos);
+      this.out.append(cls.value());
+      this.pos = cls.end();
+    }
+
+    /**
+     * Translates a character outside character classes.
+     * 
+     * @param chr the character
+     */
+    private void outsideClass(char chr) {
+      if (!this.dropped(chr)) {
+        this.out.append(this.outside.getOrDefault(chr, String.valueOf(chr)));
+      }
+      this.pos += 1;
+    }
+
+    /**
+     * Whether a character is dropped: whitespace is, with the {@code x} flag.
+     * 
+     * @param chr the character
+     * @return {@code true} if the character is dropped
+     */
+    private boolean dropped(char chr) {
+      return this.extended && JavaPattern.WHITESPACE.indexOf(chr) >= 0;
+    }
+
+    /**
+     * The translation of a character, unless a flag is given.
+     * 
+     * @param flags the flags
+     * @param flag the flag
+     * @param given the translation if the flag is given
+     * @param otherwise the translation otherwise
+     * @return the translation
+     */
+    private static String unless(String flags, char flag, String given, String otherwise) {
+      String result = otherwise;
+      if (flags.indexOf(flag) >= 0) {
+        result = given;
+      }
+      return result;
+    }
+  }
+}
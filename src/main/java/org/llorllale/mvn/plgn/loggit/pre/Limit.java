@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import org.cactoos.iterable.Limited;
+import org.llorllale.mvn.plgn.loggit.Log;
+import org.llorllale.mvn.plgn.loggit.LogEnvelope;
+
+/**
+ * Limits the number of commit entries.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class Limit extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param max the max number of commit entries
+   * @param log the log to limit
+   * @since 1.2.0
+   */
+  public Limit(int max, Log log) {
+    super(() -> new Limited<>(max, log.commits()), log);
+  }
+}
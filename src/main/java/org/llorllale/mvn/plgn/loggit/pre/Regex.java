@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+import org.cactoos.scalar.IoCheckedScalar;
+import org.cactoos.scalar.SolidScalar;
+
+/**
+ * A regular expression with the semantics of XPath's {@code fn:matches}.
+ * 
+ * <p>The expression and its flags are translated to a {@link Pattern} and compiled once, so
+ * patterns and flags behave as they do in XSLT while matching at the speed of
+ * {@code java.util.regex}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see <a href="https://www.w3.org/TR/xpath-functions-30/#regex-syntax">Regex syntax</a>
+ * @since 1.2.0
+ */
+public final class Regex {
+  private final String pattern;
+  private final IoCheckedScalar<Pattern> compiled;
+
+  /**
+   * Ctor.
+   * 
+   * @param pattern the regular expression
+   * @param flags the regex flags
+   * @since 1.2.0
+   */
+  public Regex(String pattern, String flags) {
+    this.pattern = pattern;
+    this.compiled = new IoCheckedScalar<>(
+      new SolidScalar<>(() -> new JavaPattern(pattern, flags).value())
+    );
+  }
+
+  /**
+   * Whether this regex matches any part of {@code text}.
+   * 
+   * @param text the text to search
+   * @return {@code true} if a match is found in {@code text}
+   * @throws IOException if the regular expression is invalid
+   * @since 1.2.0
+   */
+  public boolean foundIn(CharSequence text) throws IOException {
+    return this.compiled.value().matcher(text).find();
+  }
+
+  /**
+   * Whether this is the {@code .*} regex, which matches anything.
+   * 
+   * @return {@code true} if this regex is {@code .*}
+   * @since 1.2.0
+   */
+  public boolean any() {
+    return ".*".equals(this.pattern);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.util.Collections;
+import java.util.Iterator;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.iterator.Joined;
+
+/**
+ * Skips items until one matching a condition is found, and iterates from that item
+ * (inclusive) onwards.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <X> type of item
+ * @since 1.2.0
+ */
+final class Since<X> implements Iterable<X> {
+  private final UncheckedFunc<X, Boolean> start;
+  private final Iterable<X> origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param start the condition upon which to start
+   * @param origin the items
+   * @since 1.2.0
+   */
+  Since(Func<X, Boolean> start, Iterable<X> origin) {
+    this.start = new UncheckedFunc<>(start);
+    this.origin = origin;
+  }
+
+  @Override
+  public Iterator<X> iterator() {
+    final Iterator<X> items = this.origin.iterator();
+    Iterator<X> result = Collections.emptyIterator();
+    while (items.hasNext()) {
+      final X item = items.next();
+      if (this.start.apply(item)) {
+        result = new Joined<>(Collections.singleton(item).iterator(), items);
+        break;
+      }
+    }
+    return result;
+  }
+}
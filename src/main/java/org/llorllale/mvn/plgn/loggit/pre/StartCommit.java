@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import org.llorllale.mvn.plgn.loggit.Log;
+import org.llorllale.mvn.plgn.loggit.LogEnvelope;
+
+/**
+ * Keeps commits until a given commit ID is found (inclusive). An empty ID keeps all
+ * commits.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class StartCommit extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param id the ID of the last commit to keep
+   * @param log the log to slice
+   * @since 1.2.0
+   */
+  public StartCommit(String id, Log log) {
+    super(() -> new Until<>(commit -> commit.id().equals(id), true, log.commits()), log);
+  }
+}
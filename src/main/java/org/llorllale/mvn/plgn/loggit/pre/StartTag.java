@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import org.cactoos.list.ListOf;
+import org.llorllale.mvn.plgn.loggit.Log;
+import org.llorllale.mvn.plgn.loggit.LogEnvelope;
+
+/**
+ * Keeps commits until one with a given tag is found (exclusive). An empty tag keeps all
+ * commits.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class StartTag extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param tag the tag upon which to stop keeping commits
+   * @param log the log to slice
+   * @since 1.2.0
+   */
+  public StartTag(String tag, Log log) {
+    super(() -> new Until<>(
+      commit -> !tag.isEmpty() && new ListOf<>(commit.tags()).contains(tag),
+      false,
+      log.commits()
+    ), log);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Iterates over items until one matching a condition is found. Nothing after the matching
+ * item is read from the origin.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <X> type of item
+ * @since 1.2.0
+ */
+final class Until<X> implements Iterable<X> {
+  private final UncheckedFunc<X, Boolean> stop;
+  private final boolean inclusive;
+  private final Iterable<X> origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param stop the condition upon which to stop
+   * @param inclusive whether the matching item is included
+   * @param origin the items
+   * @since 1.2.0
+   */
+  Until(Func<X, Boolean> stop, boolean inclusive, Iterable<X> origin) {
+    this.stop = new UncheckedFunc<>(stop);
+    this.inclusive = inclusive;
+    this.origin = origin;
+  }
+
+  @Override
+  public Iterator<X> iterator() {
+    return new Items<>(this.origin.iterator(), this.stop, this.inclusive);
+  }
+
+  /**
+   * The iterator.
+   * 
+   * @author George Aristy (george.aristy@gmail.com)
+   * @param <X> type of item
+   * @since 1.2.0
+   */
+  private static final class Items<X> implements Iterator<X> {
+    private final Iterator<X> origin;
+    private final UncheckedFunc<X, Boolean> stop;
+    private final boolean inclusive;
+    private final Queue<X> next;
+    private boolean open;
+
+    /**
+     * Ctor.
+     * 
+     * @param origin the items
+     * @param stop the condition upon which to stop
+     * @param inclusive whether the matching item is included
+     */
+    Items(Iterator<X> origin, UncheckedFunc<X, Boolean> stop, boolean inclusive) {
+      this.origin = origin;
+      this.stop = stop;
+      this.inclusive = inclusive;
+      this.next = new LinkedList<>();
+      this.open = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.next.isEmpty() && this.open && this.origin.hasNext()) {
+        this.fetch(this.origin.next());
+      }
+      return !this.next.isEmpty();
+    }
+
+    @Override
+    public X next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException("No more items");
+      }
+      return this.next.remove();
+    }
+
+    /**
+     * Queues {@code item} unless it ends the iteration.
+     * 
+     * @param item the item
+     */
+    private void fetch(X item) {
+      this.open = !this.stop.apply(item);
+      if (this.open || this.inclusive) {
+        this.next.add(item);
+      }
+    }
+  }
+}
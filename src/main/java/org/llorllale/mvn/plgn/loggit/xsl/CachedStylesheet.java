@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl;
+
+import com.jcabi.xml.Sources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XSL;
+import com.jcabi.xml.XSLDocument;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.transform.stream.StreamSource;
+import net.sf.saxon.s9api.Destination;
+import net.sf.saxon.s9api.ItemType;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XdmAtomicValue;
+import net.sf.saxon.s9api.XdmDestination;
+import net.sf.saxon.s9api.XsltExecutable;
+import net.sf.saxon.s9api.XsltTransformer;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * An {@link XSL} compiled once per JVM.
+ * 
+ * <p>Compiled stylesheets are cached process-wide, keyed by a hash of their content, so
+ * every instance with the same stylesheet - in every module of a reactor build - shares one
+ * compilation. Only the {@value #MAX} most recently used stylesheets are kept, so that
+ * builds with many custom stylesheets don't hold on to all of them. Parameters are bound on
+ * each transformation.
+ * 
+ * <p>Transformations read and produce {@link TinyXml} trees: other {@link XML}s are copied
+ * into a tree once, and results are never converted to DOM unless asked for.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class CachedStylesheet implements XSL {
+  private static final int MAX = 16;
+  private static final Map<String, XsltExecutable> CACHE =
+    Collections.synchronizedMap(new Recent(CachedStylesheet.MAX));
+
+  private final String xsl;
+  private final Map<String, Object> params;
+
+  /**
+   * Ctor.
+   * 
+   * @param xsl the stylesheet
+   * @param params the stylesheet's params
+   * @since 1.2.0
+   */
+  CachedStylesheet(String xsl, Map<String, Object> params) {
+    this.xsl = xsl;
+    this.params = params;
+  }
+
+  @Override
+  public XML transform(XML xml) {
+    final XdmDestination result = new XdmDestination();
+    this.render(xml, result);
+    return new TinyXml(result.getXdmNode());
+  }
+
+  @Override
+  public String applyTo(XML xml) {
+    final StringWriter output = new StringWriter();
+    this.render(xml, TinyXml.SAXON.newSerializer(output));
+    return output.toString();
+  }
+
+  @Override
+  public XSL with(Sources src) {
+    return new XSLDocument(this.xsl, src, this.params);
+  }
+
+  @Override
+  public XSL with(String name, Object value) {
+    final Map<String, Object> map = new HashMap<>(this.params);
+    map.put(name, value);
+    return new CachedStylesheet(this.xsl, map);
+  }
+
+  /**
+   * Transforms {@code xml} into {@code result}.
+   * 
+   * @param xml the XML to transform
+   * @param result where to write the result
+   */
+  private void render(XML xml, Destination result) {
+    try {
+      final XsltTransformer transformer = CACHE.computeIfAbsent(
+        ObjectId.fromRaw(
+          Constants.newMessageDigest().digest(this.xsl.getBytes(StandardCharsets.UTF_8))
+        ).name(),
+        hash -> CachedStylesheet.compile(this.xsl)
+      ).load();
+      for (Map.Entry<String, Object> param : this.params.entrySet()) {
+        transformer.setParameter(
+          new QName(param.getKey()), CachedStylesheet.value(param.getValue())
+        );
+      }
+      transformer.setInitialContextNode(TinyXml.treeOf(xml));
+      transformer.setDestination(result);
+      transformer.transform();
+    } catch (SaxonApiException e) {
+      throw new IllegalStateException("Cannot transform the XML", e);
+    }
+  }
+
+  /**
+   * Compiles a stylesheet.
+   * 
+   * @param text the stylesheet
+   * @return the compiled stylesheet
+   */
+  private static XsltExecutable compile(String text) {
+    try {
+      return TinyXml.SAXON.newXsltCompiler().compile(
+        new StreamSource(new StringReader(text))
+      );
+    } catch (SaxonApiException e) {
+      throw new IllegalStateException("Cannot compile the stylesheet", e);
+    }
+  }
+
+  /**
+   * A param's value. Strings are untyped, as with JAXP, so stylesheets may compare them to
+   * numbers.
+   * 
+   * @param value the param's value
+   * @return the XDM value
+   * @throws SaxonApiException if the value cannot be converted
+   */
+  private static XdmAtomicValue value(Object value) throws SaxonApiException {
+    final XdmAtomicValue atomic;
+    if (value instanceof String) {
+      atomic = new XdmAtomicValue((String) value, ItemType.UNTYPED_ATOMIC);
+    } else {
+      atomic = XdmAtomicValue.makeAtomicValue(value);
+    }
+    return atomic;
+  }
+
+  /**
+   * The most recently used compiled stylesheets.
+   */
+  private static final class Recent extends LinkedHashMap<String, XsltExecutable> {
+    private static final long serialVersionUID = 1L;
+
+    private final int max;
+
+    /**
+     * Ctor.
+     * 
+     * @param max how many stylesheets are kept
+     */
+    Recent(int max) {
+      // @checkstyle MagicNumber (1 line)
+      super(max + 1, 1.0f, true);
+      this.max = max;
+    }
+
+    @Override
+    public boolean removeEldestEntry(Map.Entry<String, XsltExecutable> eldest) {
+      return this.size() > this.max;
+    }
+  }
+}
@@ -19,7 +19,6 @@ package org.llorllale.mvn.plgn.loggit.xsl;
 import com.jcabi.xml.Sources;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XSL;
-import com.jcabi.xml.XSLDocument;
 import java.util.Collections;
 import java.util.Map;
 import org.cactoos.Input;
@@ -57,7 +56,7 @@ public abstract class StylesheetEnvelope implements XSL {
     this(
       new UncheckedScalar<>(
         new StickyScalar<>(
-          () -> new XSLDocument(new TextOf(xsl).asString(), Sources.DUMMY, params)
+          () -> new CachedStylesheet(new TextOf(xsl).asString(), params)
         )
        )
     );
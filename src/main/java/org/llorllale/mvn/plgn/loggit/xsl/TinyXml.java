@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import net.sf.saxon.s9api.BuildingStreamWriter;
+import net.sf.saxon.s9api.DOMDestination;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.Serializer;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XdmItem;
+import net.sf.saxon.s9api.XdmNode;
+import org.cactoos.Proc;
+import org.cactoos.func.IoCheckedProc;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * An {@link XML} backed by a Saxon tree instead of a DOM.
+ * 
+ * <p>The stylesheets in this package read and produce these trees directly, so a log
+ * handed from one transformation to the next is never converted to a DOM.
+ * {@link #node()} is still available for compatibility, but it copies the tree.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class TinyXml implements XML {
+  /**
+   * Every tree and every stylesheet must share a configuration.
+   */
+  static final Processor SAXON = new Processor(false);
+
+  private final XdmNode tree;
+  private final Map<String, String> namespaces;
+
+  /**
+   * Ctor.
+   * 
+   * @param events writes the document's events; the writer builds the tree
+   * @throws IOException if the events cannot be written, eg. because the document's source
+   *     cannot be read
+   * @since 1.2.0
+   */
+  public TinyXml(Proc<XMLStreamWriter> events) throws IOException {
+    this(TinyXml.built(events));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param source the document
+   * @since 1.2.0
+   */
+  public TinyXml(Source source) {
+    this(TinyXml.parsed(source));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param tree the tree
+   * @since 1.2.0
+   */
+  TinyXml(XdmNode tree) {
+    this(tree, new HashMap<>());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param tree the tree
+   * @param namespaces the prefixes known to XPath queries
+   * @since 1.2.0
+   */
+  private TinyXml(XdmNode tree, Map<String, String> namespaces) {
+    this.tree = tree;
+    this.namespaces = namespaces;
+  }
+
+  @Override
+  public List<String> xpath(String query) {
+    final List<String> values = new ArrayList<>();
+    for (XdmItem item : this.evaluate(query)) {
+      values.add(item.getStringValue());
+    }
+    return values;
+  }
+
+  @Override
+  public List<XML> nodes(String query) {
+    final List<XML> nodes = new ArrayList<>();
+    for (XdmItem item : this.evaluate(query)) {
+      nodes.add(new TinyXml((XdmNode) item, this.namespaces));
+    }
+    return nodes;
+  }
+
+  @Override
+  public XML registerNs(String prefix, Object uri) {
+    final Map<String, String> map = new HashMap<>(this.namespaces);
+    map.put(prefix, uri.toString());
+    return new TinyXml(this.tree, map);
+  }
+
+  @Override
+  public XML merge(NamespaceContext context) {
+    return new XMLDocument(this.node()).merge(context);
+  }
+
+  @Override
+  public Node node() {
+    try {
+      final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(true);
+      final Document dom = factory.newDocumentBuilder().newDocument();
+      TinyXml.SAXON.writeXdmValue(this.tree, new DOMDestination(dom));
+      return dom;
+    } catch (ParserConfigurationException | SaxonApiException e) {
+      throw new IllegalStateException("Cannot copy the tree to a DOM", e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    final StringWriter text = new StringWriter();
+    final Serializer serializer = TinyXml.SAXON.newSerializer(text);
+    serializer.setOutputProperty(Serializer.Property.INDENT, "yes");
+    serializer.setOutputProperty(Serializer.Property.OMIT_XML_DECLARATION, "no");
+    try {
+      serializer.serializeNode(this.tree);
+    } catch (SaxonApiException e) {
+      throw new IllegalStateException("Cannot serialize the tree", e);
+    }
+    return text.toString();
+  }
+
+  /**
+   * The tree behind {@code xml}. Other {@link XML}s are copied into a new tree.
+   * 
+   * @param xml the XML
+   * @return its tree
+   */
+  static XdmNode treeOf(XML xml) {
+    final XdmNode tree;
+    if (xml instanceof TinyXml) {
+      tree = ((TinyXml) xml).tree;
+    } else {
+      tree = TinyXml.parsed(new DOMSource(xml.node()));
+    }
+    return tree;
+  }
+
+  /**
+   * Evaluates an XPath query against this tree.
+   * 
+   * @param query the query
+   * @return the result
+   */
+  private Iterable<XdmItem> evaluate(String query) {
+    final XPathCompiler compiler = TinyXml.SAXON.newXPathCompiler();
+    this.namespaces.forEach(compiler::declareNamespace);
+    try {
+      return compiler.evaluate(query, this.tree);
+    } catch (SaxonApiException e) {
+      throw new IllegalArgumentException(String.format("Invalid XPath query '%s'", query), e);
+    }
+  }
+
+  /**
+   * Builds a tree from a document.
+   * 
+   * @param source the document
+   * @return the tree
+   */
+  private static XdmNode parsed(Source source) {
+    try {
+      return TinyXml.SAXON.newDocumentBuilder().build(source);
+    } catch (SaxonApiException e) {
+      throw new IllegalArgumentException("Cannot parse the document", e);
+    }
+  }
+
+  /**
+   * Builds a tree from a document's events.
+   * 
+   * @param events writes the document's events
+   * @return the tree
+   * @throws IOException if the events cannot be written
+   */
+  private static XdmNode built(Proc<XMLStreamWriter> events) throws IOException {
+    try {
+      final BuildingStreamWriter writer = TinyXml.SAXON.newDocumentBuilder()
+        .newBuildingStreamWriter();
+      new IoCheckedProc<>(events).exec(writer);
+      return writer.getDocumentNode();
+    } catch (SaxonApiException e) {
+      throw new IllegalStateException("Cannot build the tree from its events", e);
+    }
+  }
+}
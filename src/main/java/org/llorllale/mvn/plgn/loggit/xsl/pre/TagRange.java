@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl.pre;
+
+import org.cactoos.io.ResourceOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.llorllale.mvn.plgn.loggit.xsl.StylesheetEnvelope;
+
+/**
+ * Same as {@link StartTag} followed by {@link EndTag}, in one transformation that looks up
+ * both tags in a single index.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class TagRange extends StylesheetEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param start the tag upon which to stop copying the commits, or blank
+   * @param end the tag from which to start copying the commits, or blank
+   * @since 1.2.0
+   */
+  public TagRange(String start, String end) {
+    super(
+      new ResourceOf("xsl/pre/tag-range.xsl"),
+      new MapOf<>(new MapEntry<>("startTag", start), new MapEntry<>("endTag", end))
+    );
+  }
+}
@@ -18,37 +18,19 @@
 -->
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="3.0">
   <xsl:param name="tag"/>
-  <xsl:variable name="start" select="//commit[taggedAs/tag = $tag]/id[1]"/>
+  <xsl:key name="tagged" match="commit" use="taggedAs/tag"/>
+  <xsl:variable name="start" select="key('tagged', $tag)[1]"/>
   <xsl:template match="commits">
     <commits>
-      <xsl:call-template name="loop">
-        <xsl:with-param name="commits" select="//commit"/>
-      </xsl:call-template>
-    </commits>
-  </xsl:template>
-  <xsl:template name="loop">
-    <xsl:param name="commits"/>
-    <xsl:if test="count($commits) > 0">
-      <xsl:variable name="commit" select="$commits[1]"/>
       <xsl:choose>
-        <xsl:when test="$commit/id = $start or string-length($tag) = 0">
-          <xsl:call-template name="copyAll">
-            <xsl:with-param name="commits" select="$commits"/>
-          </xsl:call-template>
+        <xsl:when test="string-length($tag) = 0">
+          <xsl:copy-of select="commit"/>
         </xsl:when>
         <xsl:otherwise>
-          <xsl:call-template name="loop">
-            <xsl:with-param name="commits" select="$commit/following-sibling::commit"/>
-          </xsl:call-template>
+          <xsl:copy-of select="$start, $start/following-sibling::commit"/>
         </xsl:otherwise>
       </xsl:choose>
-    </xsl:if>
-  </xsl:template>
-  <xsl:template name="copyAll">
-    <xsl:param name="commits"/>
-    <xsl:for-each select="$commits">
-      <xsl:copy-of select="."/>
-    </xsl:for-each>
+    </commits>
   </xsl:template>
   <xsl:template match="node()|@*">
     <xsl:copy>
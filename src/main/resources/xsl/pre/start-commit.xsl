@@ -18,35 +18,19 @@
 -->
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0">
   <xsl:param name="commitId"/>
+  <xsl:key name="commit" match="commit" use="id"/>
+  <xsl:variable name="end" select="key('commit', $commitId)[1]"/>
   <xsl:template match="commits">
     <commits>
-      <xsl:call-template name="loop">
-        <xsl:with-param name="commits" select="//commit"/>
-      </xsl:call-template>
-    </commits>
-  </xsl:template>
-  <xsl:template name="loop">
-    <xsl:param name="commits"/>
-    <xsl:if test="count($commits) > 0">
-      <xsl:variable name="commit" select="$commits[1]"/>
       <xsl:choose>
-        <xsl:when test="string-length($commitId) = 0">
-          <xsl:copy-of select="$commit"/>
-          <xsl:call-template name="loop">
-            <xsl:with-param name="commits" select="$commit/following-sibling::commit"/>
-          </xsl:call-template>
-        </xsl:when>
-        <xsl:when test="$commit/id != $commitId">
-          <xsl:copy-of select="$commit"/>
-          <xsl:call-template name="loop">
-            <xsl:with-param name="commits" select="$commit/following-sibling::commit"/>
-          </xsl:call-template>
-        </xsl:when>
-        <xsl:when test="$commit/id = $commitId">
-          <xsl:copy-of select="$commit"/>
+        <xsl:when test="$end">
+          <xsl:copy-of select="$end/preceding-sibling::commit, $end"/>
         </xsl:when>
+        <xsl:otherwise>
+          <xsl:copy-of select="commit"/>
+        </xsl:otherwise>
       </xsl:choose>
-    </xsl:if>
+    </commits>
   </xsl:template>
   <xsl:template match="node()|@*">
     <xsl:copy>
@@ -18,26 +18,20 @@
 -->
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0">
   <xsl:param name="tag"/>
-  <xsl:variable name="end" select="string(//commit[taggedAs/tag = $tag]/id[last()])"/>
+  <xsl:key name="tagged" match="commit" use="taggedAs/tag"/>
+  <xsl:variable name="end" select="key('tagged', $tag)[1]"/>
   <xsl:template match="commits">
     <commits>
-      <xsl:call-template name="loop">
-        <xsl:with-param name="commits" select="//commit"/>
-      </xsl:call-template>
+      <xsl:choose>
+        <xsl:when test="$end">
+          <xsl:copy-of select="$end/preceding-sibling::commit"/>
+        </xsl:when>
+        <xsl:otherwise>
+          <xsl:copy-of select="commit"/>
+        </xsl:otherwise>
+      </xsl:choose>
     </commits>
   </xsl:template>
-  <xsl:template name="loop">
-    <xsl:param name="commits"/>
-    <xsl:if test="count($commits) > 0">
-      <xsl:variable name="commit" select="$commits[1]"/>
-      <xsl:if test="$commit/id != $end">
-        <xsl:copy-of select="$commit"/>
-        <xsl:call-template name="loop">
-          <xsl:with-param name="commits" select="$commit/following-sibling::commit"/>
-        </xsl:call-template>
-      </xsl:if>
-    </xsl:if>
-  </xsl:template>
   <xsl:template match="node()|@*">
     <xsl:copy>
       <xsl:apply-templates select="node()|@*"/>
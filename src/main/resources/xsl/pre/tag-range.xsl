@@ -0,0 +1,47 @@
+<?xml version="1.0"?>
+<!--
+
+    Copyright 2018 George Aristy
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+        http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+
+-->
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0">
+  <xsl:param name="startTag"/>
+  <xsl:param name="endTag"/>
+  <xsl:key name="tagged" match="commit" use="taggedAs/tag"/>
+  <xsl:variable name="end" select="key('tagged', $startTag)[1]"/>
+  <xsl:variable name="start" select="key('tagged', $endTag)[not($end) or . &lt;&lt; $end][1]"/>
+  <xsl:template match="commits">
+    <commits>
+      <xsl:choose>
+        <xsl:when test="string-length($endTag) = 0 and $end">
+          <xsl:copy-of select="$end/preceding-sibling::commit"/>
+        </xsl:when>
+        <xsl:when test="string-length($endTag) = 0">
+          <xsl:copy-of select="commit"/>
+        </xsl:when>
+        <xsl:otherwise>
+          <xsl:variable name="after" select="$start/following-sibling::commit"/>
+          <xsl:variable name="size" select="count($after) - count($end/(., following-sibling::commit))"/>
+          <xsl:copy-of select="$start, subsequence($after, 1, $size)"/>
+        </xsl:otherwise>
+      </xsl:choose>
+    </commits>
+  </xsl:template>
+  <xsl:template match="node()|@*">
+    <xsl:copy>
+      <xsl:apply-templates select="node()|@*"/>
+    </xsl:copy>
+  </xsl:template>
+</xsl:stylesheet>
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Authors}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class AuthorsTest {
+  /**
+   * Only the commits by matching authors are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void includesMatching() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("Jane Doe", "jane@example.com", "Jane Doe");
+    repo.commit("dependabot[bot]", "bot@github.com", "dependabot[bot]");
+    final RevCommit third = repo.commit("John Doe", "john@example.com", "John Doe");
+    assertThat(
+      repo.walked(new Authors("Doe <", "")),
+      contains(third.getName(), first.getName())
+    );
+  }
+
+  /**
+   * The commits by matching authors are not walked; emails are matched too.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void excludesMatching() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("Jane Doe", "jane@example.com", "Jane Doe");
+    repo.commit("dependabot[bot]", "bot@github.com", "dependabot[bot]");
+    final RevCommit third = repo.commit("John Doe", "john@example.com", "John Doe");
+    assertThat(
+      repo.walked(new Authors("", "@github\\.com")),
+      contains(third.getName(), first.getName())
+    );
+  }
+
+  /**
+   * Both regexes can be combined, and anchored to the author's name.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void combined() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("Jane Doe", "jane@example.com", "Jane Doe");
+    repo.commit("dependabot[bot]", "bot@github.com", "dependabot[bot]");
+    final RevCommit third = repo.commit("John Doe", "john@example.com", "John Doe");
+    assertThat(
+      repo.walked(new Authors("example", "^Jane")),
+      contains(third.getName())
+    );
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BranchFile}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class BranchFileTest {
+  /**
+   * The branch's name goes before the extension.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void beforeExtension() {
+    assertThat(
+      new BranchFile(new File("target", "gitlog.xml"), "master").value(),
+      is(new File("target", "gitlog-master.xml"))
+    );
+  }
+
+  /**
+   * The branch's name is appended to a name without extension.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void withoutExtension() {
+    assertThat(
+      new BranchFile(new File("target", "CHANGELOG"), "master").value(),
+      is(new File("target", "CHANGELOG-master"))
+    );
+  }
+
+  /**
+   * Characters that aren't safe in file names are replaced.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void sanitizesBranch() {
+    assertThat(
+      new BranchFile(new File("target", "gitlog.xml"), "release/1.x").value(),
+      is(new File("target", "gitlog-release_1.x.xml"))
+    );
+  }
+}
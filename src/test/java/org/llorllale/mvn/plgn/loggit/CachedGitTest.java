@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.iterable.Mapped;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CachedGit}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class CachedGitTest {
+  /**
+   * Log returns a reference.
+   * 
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void logIsNotNull() throws IOException {
+    assertNotNull(
+      new CachedGit(
+        Paths.get("."), Constants.MASTER, Files.createTempDirectory("")
+      ).log()
+    );
+  }
+
+  /**
+   * Repos sharing a cache directory each get their own cache, and no temporary file is left
+   * behind.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void reposShareCacheDirectory() throws Exception {
+    final Path cache = Files.createTempDirectory("");
+    final TmpRepo first = new TmpRepo();
+    final RevCommit one = first.commit("one");
+    final TmpRepo second = new TmpRepo();
+    final RevCommit two = second.commit("two");
+    for (TmpRepo repo : new TmpRepo[] {first, second}) {
+      new CachedGit(
+        repo.repository().getDirectory().toPath(), Constants.MASTER, cache
+      ).log().commits().forEach(commit -> { });
+    }
+    assertThat(
+      new Mapped<>(
+        Commit::id,
+        new CachedGit(
+          first.repository().getDirectory().toPath(), Constants.MASTER, cache
+        ).log().commits()
+      ),
+      contains(one.getName())
+    );
+    assertThat(
+      new Mapped<>(
+        Commit::id,
+        new CachedGit(
+          second.repository().getDirectory().toPath(), Constants.MASTER, cache
+        ).log().commits()
+      ),
+      contains(two.getName())
+    );
+    try (Stream<Path> files = Files.list(cache)) {
+      assertThat(files.collect(Collectors.toList()), hasSize(2));
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CachedLog}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class CachedLogTest {
+  /**
+   * The time of the last commit added: the commits of a real history are apart in time.
+   */
+  private Instant time = Instant.now();
+
+  /**
+   * The whole history is read on the first run.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void readsWholeHistory() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.commit(repo, "first");
+    final RevCommit second = this.commit(repo, "second");
+    assertThat(
+      new Mapped<>(Commit::id, this.log(repo, this.cache()).commits()),
+      contains(second.getName(), first.getName())
+    );
+  }
+
+  /**
+   * Cached commits are not read from the repo again: only the few just before the newest
+   * cached one are looked at by the walk that stops there.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void readsOnlyNewCommits() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    final List<String> ids = new ArrayList<>(0);
+    // @checkstyle MagicNumber (1 line)
+    for (int idx = 0; idx < 20; ++idx) {
+      ids.add(0, this.commit(repo, String.format("commit %d", idx)).getName());
+    }
+    this.log(repo, cache).commits();
+    ids.add(0, this.commit(repo, "new").getName());
+    // @checkstyle MagicNumber (1 line)
+    for (final String id : ids.subList(ids.size() - 10, ids.size())) {
+      this.delete(repo, id);
+    }
+    assertThat(
+      new ArrayList<>(new ListOf<>(new Mapped<>(Commit::id, this.log(repo, cache).commits()))),
+      equalTo(ids)
+    );
+  }
+
+  /**
+   * The cache isn't rewritten if the head hasn't moved.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsUnchangedCache() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    final RevCommit first = this.commit(repo, "first");
+    this.log(repo, cache).commits();
+    final Object key = Files.readAttributes(cache, BasicFileAttributes.class).fileKey();
+    assertThat(
+      new Mapped<>(Commit::id, this.log(repo, cache).commits()),
+      contains(first.getName())
+    );
+    assertThat(Files.readAttributes(cache, BasicFileAttributes.class).fileKey(), equalTo(key));
+  }
+
+  /**
+   * Cached commits are read as they are needed: the oldest are never read if reading stops
+   * early, so a truncated cache goes unnoticed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void readsCacheLazily() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    this.commit(repo, "first");
+    final RevCommit second = this.commit(repo, "second");
+    this.log(repo, cache).commits();
+    final byte[] bytes = Files.readAllBytes(cache);
+    // @checkstyle MagicNumber (1 line)
+    Files.write(cache, Arrays.copyOf(bytes, bytes.length - 10));
+    try (Log log = this.log(repo, cache)) {
+      assertThat(log.commits().iterator().next().id(), equalTo(second.getName()));
+    }
+  }
+
+  /**
+   * The cache is discarded if the history was rewritten.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void rebuildsAfterRewrite() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    final RevCommit first = this.commit(repo, "first");
+    this.commit(repo, "second");
+    this.log(repo, cache).commits();
+    repo.git().reset().setMode(ResetCommand.ResetType.HARD).setRef(first.getName()).call();
+    final RevCommit other = this.commit(repo, "other");
+    assertThat(
+      new Mapped<>(Commit::id, this.log(repo, cache).commits()),
+      contains(other.getName(), first.getName())
+    );
+  }
+
+  /**
+   * An unreadable cache is ignored.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void ignoresCorruptCache() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    final RevCommit first = this.commit(repo, "first");
+    Files.write(cache, "corrupt".getBytes(StandardCharsets.UTF_8));
+    assertThat(
+      new Mapped<>(Commit::id, this.log(repo, cache).commits()),
+      contains(first.getName())
+    );
+  }
+
+  /**
+   * Tags are resolved on every run.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void resolvesNewTags() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final Path cache = this.cache();
+    this.commit(repo, "first");
+    this.log(repo, cache).commits();
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    assertThat(
+      this.log(repo, cache).commits().iterator().next().tags(),
+      contains("v1.0")
+    );
+  }
+
+  /**
+   * The cached log of the repo's master branch.
+   * 
+   * @param repo the repo
+   * @param cache the cache file
+   * @return the log
+   */
+  private Log log(TmpRepo repo, Path cache) {
+    return new CachedLog(
+      cache,
+      repo.repository(),
+      () -> repo.repository().findRef(Constants.MASTER),
+      new Tags(repo.repository())
+    );
+  }
+
+  /**
+   * A cache file in a temp directory.
+   * 
+   * @return the cache file
+   * @throws IOException unexpected
+   */
+  private Path cache() throws IOException {
+    return Files.createTempDirectory("").resolve("master.log");
+  }
+
+  /**
+   * Deletes a commit's loose object from the repo.
+   * 
+   * @param repo the repo
+   * @param name the commit's id
+   * @throws IOException unexpected
+   */
+  private void delete(TmpRepo repo, String name) throws IOException {
+    Files.delete(
+      repo.repository().getDirectory().toPath()
+        .resolve("objects").resolve(name.substring(0, 2)).resolve(name.substring(2))
+    );
+  }
+
+  /**
+   * Adds a commit to the repo, a second after the previous one.
+   * 
+   * @param repo the repo
+   * @param msg the commit msg
+   * @return the revcommit
+   * @throws GitAPIException unexpected
+   * @throws IOException unexpected
+   */
+  private RevCommit commit(
+    TmpRepo repo, String msg
+  ) throws GitAPIException, IOException {
+    this.time = this.time.plusSeconds(1);
+    return repo.commit(msg, this.time);
+  }
+}
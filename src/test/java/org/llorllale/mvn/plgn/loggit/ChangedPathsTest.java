@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import org.cactoos.list.ListOf;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ChangedPaths}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class ChangedPathsTest {
+  /**
+   * Only the commits that changed the paths are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void onlyChangesToPaths() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit(Paths.get("module-a"), "module-a");
+    repo.commit(Paths.get("module-b"), "module-b");
+    final RevCommit third = repo.commit(Paths.get("module-a/src"), "module-a/src");
+    repo.commit(Paths.get("module-ab"), "module-ab");
+    assertThat(
+      repo.walked(new ChangedPaths(new ListOf<>("module-a"))),
+      contains(third.getName(), first.getName())
+    );
+  }
+
+  /**
+   * Changes to any of the paths are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void changesToAnyPath() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit(Paths.get("module-a"), "module-a");
+    final RevCommit second = repo.commit(Paths.get("module-b"), "module-b");
+    repo.commit(Paths.get("module-c"), "module-c");
+    assertThat(
+      repo.walked(new ChangedPaths(new ListOf<>("module-a", "module-b"))),
+      contains(second.getName(), first.getName())
+    );
+  }
+
+  /**
+   * Without paths all commits are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void allWithoutPaths() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit(Paths.get("module-a"), "module-a");
+    final RevCommit second = repo.commit(Paths.get("module-b"), "module-b");
+    assertThat(
+      repo.walked(new ChangedPaths(Collections.emptyList())),
+      contains(second.getName(), first.getName())
+    );
+  }
+}
@@ -27,7 +27,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import org.apache.maven.plugin.MojoFailureException;
 import org.cactoos.text.TextOf;
-import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.Test;
@@ -48,12 +48,12 @@ public final class ChangelogTest {
    */
   @Test
   public void writeLogToFileAndReadItBack() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final RevCommit first = this.addCommit(repo, "first", "first@test.com", "First commit");
-    final RevCommit second = this.addCommit(repo, "second", "second@test.com", "Second commit");
-    final File output = repo.getRepository().getWorkTree().toPath().resolve("log.xml").toFile();
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    final RevCommit second = repo.commit("second", "second@test.com", "Second commit");
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
     new Changelog(
-      repo.getRepository().getWorkTree(),
+      repo.repository().getWorkTree(),
       output
     ).execute();
     assertThat(
@@ -104,12 +104,12 @@ public final class ChangelogTest {
    */
   @Test
   public void defaultMarkdownOutput() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    this.addCommit(repo, "first", "first@test.com", "First commit");
-    this.addCommit(repo, "second", "second@test.com", "Second commit");
-    final File output = repo.getRepository().getWorkTree().toPath().resolve("log.xml").toFile();
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
     new Changelog(
-      repo.getRepository().getWorkTree(),
+      repo.repository().getWorkTree(),
       output, "markdown"
     ).execute();
     assertThat(
@@ -126,12 +126,12 @@ public final class ChangelogTest {
    */
   @Test
   public void customOutput() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    this.addCommit(repo, "first", "first@test.com", "First commit");
-    this.addCommit(repo, "second", "second@test.com", "Second commit");
-    final File output = repo.getRepository().getWorkTree().toPath().resolve("log.xml").toFile();
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
     new Changelog(
-      repo.getRepository().getWorkTree(),
+      repo.repository().getWorkTree(),
       output, "custom",
       new File("src/test/resources/org/llorllale/mvn/plgn/loggit/changelogtest.xsl")
     ).execute();
@@ -148,16 +148,16 @@ public final class ChangelogTest {
    */
   @Test
   public void logOfCustomBranch() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final File output = repo.getRepository().getWorkTree().toPath().resolve("log.xml").toFile();
-    final RevCommit first = this.addCommit(repo, "first", "first@test.com", "First commit");
-    final RevCommit second = this.addCommit(repo, "second", "second@test.com", "Second commit");
+    final TmpRepo repo = new TmpRepo();
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    final RevCommit second = repo.commit("second", "second@test.com", "Second commit");
     final String branchName = "logOfCustomBranch";
-    repo.branchCreate().setName(branchName).call();
-    final Ref branch = repo.checkout().setName(branchName).call();
-    final RevCommit third = this.addCommit(repo, "third", "third@test.com", "Third commit");
+    repo.git().branchCreate().setName(branchName).call();
+    final Ref branch = repo.git().checkout().setName(branchName).call();
+    final RevCommit third = repo.commit("third", "third@test.com", "Third commit");
     new Changelog(
-      repo.getRepository().getWorkTree(),
+      repo.repository().getWorkTree(),
       output, "default", null, branch.getName()
     ).execute();
     assertThat(
@@ -181,40 +181,108 @@ public final class ChangelogTest {
   }
 
   /**
-   * Initializes a git repo in a temp directory.
+   * The walk stops as soon as {@code maxEntries} commits have been read: older commits are
+   * never parsed, so removing them from the object database goes unnoticed.
    * 
-   * @return the repo
-   * @throws IOException unexpected
-   * @throws GitAPIException unexpected
+   * @throws Exception unexpected
+   * @since 1.2.0
    */
-  private org.eclipse.jgit.api.Git repo() throws IOException, GitAPIException {
-    final File dir = Files.createTempDirectory("").toFile();
-    return org.eclipse.jgit.api.Git.init()
-      .setDirectory(dir)
-      .call();
+  @Test
+  public void maxEntriesStopsTheWalk() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    repo.commit("third", "third@test.com", "Third commit");
+    repo.commit("fourth", "fourth@test.com", "Fourth commit");
+    repo.commit("fifth", "fifth@test.com", "Fifth commit");
+    this.delete(repo, first);
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
+    new Changelog(
+      repo.repository().getWorkTree(),
+      output, "default", null, Constants.MASTER, 2
+    ).execute();
+    assertThat(
+      new TextOf(output).asString(),
+      hasXPaths(
+        "/log/commits[count(commit) = 2]",
+        "/log/commits/commit[1]/author[name = 'fifth']",
+        "/log/commits/commit[2]/author[name = 'fourth']"
+      )
+    );
+  }
+
+  /**
+   * The walk stops as soon as the commit with {@code startTag} is read: older commits are
+   * never parsed, so removing them from the object database goes unnoticed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void startTagStopsTheWalk() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    repo.commit("third", "third@test.com", "Third commit");
+    repo.commit("fourth", "fourth@test.com", "Fourth commit");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    repo.commit("fifth", "fifth@test.com", "Fifth commit");
+    repo.commit("sixth", "sixth@test.com", "Sixth commit");
+    this.delete(repo, first);
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
+    new Changelog(
+      repo.repository().getWorkTree(),
+      output, "default", null, Constants.MASTER, Integer.MAX_VALUE, "v1.0"
+    ).execute();
+    assertThat(
+      new TextOf(output).asString(),
+      hasXPaths(
+        "/log/commits[count(commit) = 2]",
+        "/log/commits/commit[1]/author[name = 'sixth']",
+        "/log/commits/commit[2]/author[name = 'fifth']"
+      )
+    );
+  }
+
+  /**
+   * The {@code includeRegex} keeps the commits that match it among the {@code maxEntries}
+   * most recent ones, not the {@code maxEntries} most recent that match it.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void includeRegexAfterMaxEntries() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    repo.commit("third", "third@test.com", "Third commit");
+    final File output = repo.repository().getWorkTree().toPath().resolve("log.xml").toFile();
+    new Changelog(
+      repo.repository().getWorkTree(),
+      output, "default", null, Constants.MASTER, 2, "", "^(First|Third)", ""
+    ).execute();
+    assertThat(
+      new TextOf(output).asString(),
+      hasXPaths(
+        "/log/commits[count(commit) = 1]",
+        "/log/commits/commit[1]/author[name = 'third']"
+      )
+    );
   }
 
   /**
-   * Adds a commit to the repo.
+   * Deletes a commit from the repo's object database.
    * 
    * @param repo the repo
-   * @param author the author name
-   * @param email the author email
-   * @param msg the commit msg
-   * @return the revcommit
-   * @throws GitAPIException unexpected
+   * @param commit the commit to delete
    * @throws IOException unexpected
    */
-  private RevCommit addCommit(
-    org.eclipse.jgit.api.Git repo, String author, String email, String msg
-  ) throws GitAPIException, IOException {
-    Files.createFile(
-      repo.getRepository().getWorkTree().toPath().resolve(System.nanoTime() + "test.txt")
+  private void delete(TmpRepo repo, RevCommit commit) throws IOException {
+    final String name = commit.getId().getName();
+    Files.delete(
+      repo.repository().getDirectory().toPath()
+        .resolve("objects").resolve(name.substring(0, 2)).resolve(name.substring(2))
     );
-    repo.add().addFilepattern(".").call();
-    return repo.commit()
-      .setAuthor(author, email)
-      .setMessage(msg)
-      .call();
   }
 }
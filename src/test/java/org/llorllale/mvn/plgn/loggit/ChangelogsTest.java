@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Changelogs}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class ChangelogsTest {
+  /**
+   * A configuration's changelog is written once and copied to every other file.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesOnceThenCopies() throws Exception {
+    final Changelogs written = new Changelogs();
+    final AtomicInteger writes = new AtomicInteger();
+    final Path dir = Files.createTempDirectory("");
+    final File first = dir.resolve("first.xml").toFile();
+    final File second = dir.resolve("second.xml").toFile();
+    written.write(
+      Arrays.asList("repo", "master"), first,
+      file -> Files.write(file.toPath(), new byte[] {(byte) writes.incrementAndGet()})
+    );
+    written.write(
+      Arrays.asList("repo", "master"), second,
+      file -> Files.write(file.toPath(), new byte[] {(byte) writes.incrementAndGet()})
+    );
+    assertThat(
+      Files.readAllBytes(second.toPath()),
+      is(new byte[] {1})
+    );
+  }
+
+  /**
+   * Each configuration gets its own changelog.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesEachConfiguration() throws Exception {
+    final Changelogs written = new Changelogs();
+    final AtomicInteger writes = new AtomicInteger();
+    final Path dir = Files.createTempDirectory("");
+    written.write(
+      Arrays.asList("repo", "master"), dir.resolve("master.xml").toFile(),
+      file -> Files.write(file.toPath(), new byte[] {(byte) writes.incrementAndGet()})
+    );
+    written.write(
+      Arrays.asList("repo", "maint"), dir.resolve("maint.xml").toFile(),
+      file -> Files.write(file.toPath(), new byte[] {(byte) writes.incrementAndGet()})
+    );
+    assertThat(writes.get(), is(2));
+  }
+
+  /**
+   * A changelog that couldn't be written is attempted again.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void failuresAreNotKept() throws Exception {
+    final Changelogs written = new Changelogs();
+    final File output = Files.createTempDirectory("").resolve("log.xml").toFile();
+    try {
+      written.write(
+        Arrays.asList("repo", "master"), output,
+        file -> {
+          throw new IOException("failed");
+        }
+      );
+    } catch (IOException e) {
+      written.write(
+        Arrays.asList("repo", "master"), output,
+        file -> Files.write(file.toPath(), new byte[] {7})
+      );
+    }
+    assertThat(Files.readAllBytes(output.toPath()), is(new byte[] {7}));
+  }
+
+  /**
+   * A changelog is copied into a directory that doesn't exist yet.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void copiesIntoMissingDirectory() throws Exception {
+    final Changelogs written = new Changelogs();
+    final Path dir = Files.createTempDirectory("");
+    written.write(
+      Arrays.asList("repo", "master"), dir.resolve("log.xml").toFile(),
+      file -> Files.write(file.toPath(), new byte[] {1})
+    );
+    final File copy = dir.resolve("module").resolve("target").resolve("log.xml").toFile();
+    written.write(
+      Arrays.asList("repo", "master"), copy,
+      file -> Files.write(file.toPath(), new byte[] {2})
+    );
+    assertThat(Files.readAllBytes(copy.toPath()), is(new byte[] {1}));
+  }
+
+  /**
+   * A changelog whose first file is gone is written again.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesAgainIfFirstIsGone() throws Exception {
+    final Changelogs written = new Changelogs();
+    final Path dir = Files.createTempDirectory("");
+    written.write(
+      Arrays.asList("repo", "master"), dir.resolve("first.xml").toFile(),
+      file -> Files.write(file.toPath(), new byte[] {1})
+    );
+    Files.delete(dir.resolve("first.xml"));
+    final File second = dir.resolve("second.xml").toFile();
+    written.write(
+      Arrays.asList("repo", "master"), second,
+      file -> Files.write(file.toPath(), new byte[] {2})
+    );
+    assertThat(Files.readAllBytes(second.toPath()), is(new byte[] {2}));
+  }
+
+  /**
+   * A module waiting for a changelog that fails writes its own, to its own file, with its
+   * own writer; the failed one's file is left alone.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void waitersWriteTheirOwnAfterFailure() throws Exception {
+    final Changelogs written = new Changelogs();
+    final File first = Files.createTempDirectory("").resolve("first.xml").toFile();
+    final File second = first.toPath().resolveSibling("second.xml").toFile();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch fail = new CountDownLatch(1);
+    final ExecutorService threads = Executors.newSingleThreadExecutor();
+    try {
+      threads.submit(() -> {
+        written.write(
+          Arrays.asList("repo", "master"), first,
+          file -> {
+            started.countDown();
+            fail.await();
+            throw new IOException("failed");
+          }
+        );
+        return null;
+      });
+      started.await();
+      new Thread(fail::countDown).start();
+      written.write(
+        Arrays.asList("repo", "master"), second,
+        file -> Files.write(file.toPath(), new byte[] {2})
+      );
+      assertThat(first.exists(), is(false));
+      assertThat(Files.readAllBytes(second.toPath()), is(new byte[] {2}));
+    } finally {
+      threads.shutdown();
+      threads.awaitTermination(1, TimeUnit.MINUTES);
+    }
+  }
+}
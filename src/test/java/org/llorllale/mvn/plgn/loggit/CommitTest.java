@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+
+/**
+ * Tests for {@link Commit}'s default methods.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class CommitTest {
+  private static final Commit COMMIT =
+    () -> new MockCommit("1", "Short\n\nFull", "v1.0", "v1.1").asXml();
+
+  /**
+   * The id is read from the XML.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void id() {
+    assertThat(COMMIT.id(), is("1"));
+  }
+
+  /**
+   * The author's name and email address are read from the XML.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void author() {
+    assertThat(COMMIT.author() + COMMIT.email(), is("mockmock@test.com"));
+  }
+
+  /**
+   * The date is read from the XML.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void date() {
+    assertThat(COMMIT.date(), is(Instant.EPOCH));
+  }
+
+  /**
+   * The messages are read from the XML.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void messages() {
+    assertThat(COMMIT.shortMessage(), is("Short"));
+    assertThat(COMMIT.fullMessage(), is("Short\n\nFull"));
+  }
+
+  /**
+   * The tags are read from the XML.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void tags() throws Exception {
+    assertThat(COMMIT.tags(), contains("v1.0", "v1.1"));
+  }
+
+  /**
+   * A commit without tags has none.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void noTags() throws Exception {
+    final Commit commit = () -> new MockCommit("1", "Short").asXml();
+    assertThat(commit.tags().iterator().hasNext(), is(false));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CommitTimes}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class CommitTimesTest {
+  /**
+   * Only the commits since and until the given moments are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void sinceAndUntil() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", Instant.parse("2018-01-01T00:00:00Z"));
+    final RevCommit second = repo.commit("second", Instant.parse("2018-02-01T00:00:00Z"));
+    final RevCommit third = repo.commit("third", Instant.parse("2018-03-01T00:00:00Z"));
+    repo.commit("fourth", Instant.parse("2018-04-01T00:00:00Z"));
+    assertThat(
+      repo.walked(new CommitTimes("2018-02-01T00:00:00Z", "2018-03-01T00:00:00Z")),
+      contains(third.getName(), second.getName())
+    );
+  }
+
+  /**
+   * The walk stops at the first commit older than {@code since}: older commits are never
+   * parsed, so removing them from the object database goes unnoticed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void stopsAtSince() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", Instant.parse("2018-01-01T00:00:00Z"));
+    repo.commit("second", Instant.parse("2018-02-01T00:00:00Z"));
+    final RevCommit third = repo.commit("third", Instant.parse("2018-03-01T00:00:00Z"));
+    final String name = first.getName();
+    Files.delete(
+      repo.repository().getDirectory().toPath()
+        .resolve("objects").resolve(name.substring(0, 2)).resolve(name.substring(2))
+    );
+    assertThat(
+      repo.walked(new CommitTimes("2018-02-15", "")),
+      contains(third.getName())
+    );
+  }
+
+  /**
+   * Without moments all commits are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void allWithoutMoments() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", Instant.parse("2018-01-01T00:00:00Z"));
+    final RevCommit second = repo.commit("second", Instant.parse("2018-02-01T00:00:00Z"));
+    assertThat(
+      repo.walked(new CommitTimes("", "")),
+      contains(second.getName(), first.getName())
+    );
+  }
+}
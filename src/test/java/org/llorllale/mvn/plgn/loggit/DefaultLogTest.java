@@ -16,18 +16,23 @@
 
 package org.llorllale.mvn.plgn.loggit;
 
-// @checkstyle AvoidStaticImport (4 lines)
+// @checkstyle AvoidStaticImport (5 lines)
 import static com.jcabi.matchers.XhtmlMatchers.hasXPaths;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
 import com.jcabi.xml.StrictXML;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import org.eclipse.jgit.api.errors.GitAPIException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
@@ -69,12 +74,12 @@ public final class DefaultLogTest {
    */
   @Test
   public void asXmlAllCommits() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final RevCommit first = this.addCommit(repo, "first", "first@test.com", "First commit");
-    final RevCommit second = this.addCommit(repo, "second", "second@test.com", "Second commit");
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    final RevCommit second = repo.commit("second", "second@test.com", "Second commit");
     assertThat(
       new DefaultLog(
-        repo.getRepository(), () -> repo.getRepository().findRef(Constants.MASTER)
+        repo.repository(), () -> repo.repository().findRef(Constants.MASTER)
       ).asXml(),
       hasXPaths(
         // @checkstyle LineLength (8 lines)
@@ -98,12 +103,12 @@ public final class DefaultLogTest {
    */
   @Test
   public void asXmlAllCommitsInOrder() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    this.addCommit(repo, "first", "first@test.com", "First commit");
-    this.addCommit(repo, "second", "second@test.com", "Second commit");
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
     assertThat(
       new DefaultLog(
-        repo.getRepository(), () -> repo.getRepository().findRef(Constants.MASTER)
+        repo.repository(), () -> repo.repository().findRef(Constants.MASTER)
       ).asXml(),
       hasXPaths(
         "//commit[1]//author[name = 'second']",
@@ -122,50 +127,76 @@ public final class DefaultLogTest {
    */
   @Test(expected = IOException.class)
   public void errorIfNoBranch() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
+    final TmpRepo repo = new TmpRepo();
     new StrictXML(
       new DefaultLog(
-        repo.getRepository(), () -> repo.getRepository().findRef(Constants.MASTER)
+        repo.repository(), () -> repo.repository().findRef(Constants.MASTER)
       ).asXml(),
       new Schema()
     ).toString();
   }
 
   /**
-   * Initializes a git repo in a temp directory.
+   * Closing the log releases the walk of a consumer that stopped reading early.
    * 
-   * @return the repo
-   * @throws IOException unexpected
-   * @throws GitAPIException unexpected
+   * @throws Exception unexpected
+   * @since 1.2.0
    */
-  private org.eclipse.jgit.api.Git repo() throws IOException, GitAPIException {
-    final File dir = Files.createTempDirectory("").toFile();
-    return org.eclipse.jgit.api.Git.init()
-      .setDirectory(dir)
-      .call();
+  @Test
+  public void closeReleasesWalkStoppedEarly() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    repo.commit("second", "second@test.com", "Second commit");
+    final Readers readers = new Readers(repo.repository().getDirectory());
+    try (Log log = new DefaultLog(readers, () -> readers.findRef(Constants.MASTER))) {
+      log.commits().iterator().next();
+      assertThat(readers.open(), not(empty()));
+    }
+    assertThat(readers.open(), empty());
   }
 
   /**
-   * Adds a commit to the repo.
-   * 
-   * @param repo the repo
-   * @param author the author name
-   * @param email the author email
-   * @param msg the commit msg
-   * @return the revcommit
-   * @throws GitAPIException unexpected
-   * @throws IOException unexpected
+   * A repo that keeps track of the readers that are open.
    */
-  private RevCommit addCommit(
-    org.eclipse.jgit.api.Git repo, String author, String email, String msg
-  ) throws GitAPIException, IOException {
-    Files.createFile(
-      repo.getRepository().getWorkTree().toPath().resolve(System.nanoTime() + "test.txt")
-    );
-    repo.add().addFilepattern(".").call();
-    return repo.commit()
-      .setAuthor(author, email)
-      .setMessage(msg)
-      .call();
+  private static final class Readers extends FileRepository {
+    private final Set<ObjectReader> opened = Collections.synchronizedSet(new HashSet<>());
+
+    /**
+     * Ctor.
+     * 
+     * @param dir the repo's git directory
+     * @throws IOException unexpected
+     */
+    Readers(File dir) throws IOException {
+      super(dir);
+    }
+
+    /**
+     * The readers that are open.
+     * 
+     * @return the readers
+     */
+    Set<ObjectReader> open() {
+      return this.opened;
+    }
+
+    @Override
+    public ObjectReader newObjectReader() {
+      final ObjectReader origin = super.newObjectReader();
+      final ObjectReader reader = new ObjectReader.Filter() {
+        @Override
+        protected ObjectReader delegate() {
+          return origin;
+        }
+
+        @Override
+        public void close() {
+          Readers.this.opened.remove(this);
+          origin.close();
+        }
+      };
+      this.opened.add(reader);
+      return reader;
+    }
   }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Fields}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class FieldsTest {
+  /**
+   * All fields are needed if none is given.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void allByDefault() throws Exception {
+    assertThat(new Fields(" ").has("tags"), is(true));
+  }
+
+  /**
+   * Fields that are not given are not needed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void onlyGiven() throws Exception {
+    assertThat(new Fields("author, short").has("date"), is(false));
+  }
+
+  /**
+   * The id is always needed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void alwaysId() throws Exception {
+    assertThat(new Fields("tags").has("id"), is(true));
+  }
+
+  /**
+   * The bodies are not needed for the id and tags.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void noBodyForIdAndTags() throws Exception {
+    assertThat(new Fields("id,tags").body(), is(false));
+  }
+
+  /**
+   * The bodies are needed for the author.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void bodyForAuthor() throws Exception {
+    assertThat(new Fields("id,email").body(), is(true));
+  }
+
+  /**
+   * Unknown fields are an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void unknownField() throws Exception {
+    new Fields("id,subject").has("id");
+  }
+
+  /**
+   * The markdown format needs only the id, author and short message.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void markdownNeedsNoDate() throws Exception {
+    assertThat(new Fields("markdown", "strict", "").has("date"), is(false));
+  }
+
+  /**
+   * Strict validation of a post-processed log needs all fields.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void strictCustomNeedsAll() throws Exception {
+    assertThat(new Fields("custom", "strict", "author").has("date"), is(true));
+  }
+
+  /**
+   * The default format needs only the given fields, even if validated strictly.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void defaultNeedsGiven() throws Exception {
+    assertThat(new Fields("default", "strict", "author").has("date"), is(false));
+  }
+}
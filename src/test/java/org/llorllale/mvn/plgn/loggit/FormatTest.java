@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (5 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPaths;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+
+/**
+ * Tests for {@link Format}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class FormatTest {
+  /**
+   * The default format writes the log's XML.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesDefault() throws Exception {
+    final File output = this.output();
+    this.format("default").write(
+      new MockLog(new MockCommit("1", "Message")), output, new Metrics()
+    );
+    assertThat(
+      new XMLDocument(output),
+      hasXPaths("/log/commits/commit[id = '1']/message[short = 'Message']")
+    );
+  }
+
+  /**
+   * An invalid log in the default format doesn't replace the output: this one isn't even
+   * well-formed, so the schema cannot validate it.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IllegalStateException.class)
+  public void keepsOutputOfInvalidDefault() throws Exception {
+    final File output = this.output();
+    Files.write(output.toPath(), "previous".getBytes(StandardCharsets.UTF_8));
+    try {
+      new Format("default", null, new Validation("final"), new Fields()).write(
+        new MockLog(new MockCommit("1", "Invalid \u0001 message")), output, new Metrics()
+      );
+    } finally {
+      assertThat(
+        new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8),
+        equalTo("previous")
+      );
+    }
+  }
+
+  /**
+   * The default format creates the output's missing directories.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesDefaultIntoMissingDirectory() throws Exception {
+    final File output = Files.createTempDirectory("").resolve("site/log.xml").toFile();
+    this.format("default").write(
+      new MockLog(new MockCommit("1", "Message")), output, new Metrics()
+    );
+    assertThat(
+      new XMLDocument(output),
+      hasXPaths("/log/commits/commit[id = '1']")
+    );
+  }
+
+  /**
+   * The default format's output has the permissions of any other new file.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesDefaultWithDefaultPermissions() throws Exception {
+    final Path dir = Files.createTempDirectory("");
+    assumeTrue(Files.getFileStore(dir).supportsFileAttributeView(PosixFileAttributeView.class));
+    final File output = dir.resolve("log.xml").toFile();
+    this.format("default").write(
+      new MockLog(new MockCommit("1", "Message")), output, new Metrics()
+    );
+    assertThat(
+      Files.getPosixFilePermissions(output.toPath()),
+      equalTo(Files.getPosixFilePermissions(Files.createFile(dir.resolve("other.xml"))))
+    );
+  }
+
+  /**
+   * The markdown format writes markdown.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesMarkdown() throws Exception {
+    final File output = this.output();
+    this.format("markdown").write(
+      new MockLog(new MockCommit("1", "Message")), output, new Metrics()
+    );
+    assertThat(
+      new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8),
+      startsWith("# CHANGELOG\n* id: 1 (by mock)")
+    );
+  }
+
+  /**
+   * Other formats transform the log's XML.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void transformsOthers() throws Exception {
+    final File output = this.output();
+    this.format("identity").write(
+      new MockLog(new MockCommit("1", "Message")), output, new Metrics()
+    );
+    assertThat(
+      new XMLDocument(output),
+      hasXPaths("/log/commits/commit[id = '1']")
+    );
+  }
+
+  /**
+   * A format without a stylesheet that validates nothing.
+   * 
+   * @param name the format's name
+   * @return the format
+   */
+  private Format format(String name) {
+    return new Format(name, null, new Validation("off"), new Fields());
+  }
+
+  /**
+   * A temporary output file.
+   * 
+   * @return the file
+   * @throws IOException unexpected
+   */
+  private File output() throws IOException {
+    final File file = Files.createTempFile("", ".out").toFile();
+    file.deleteOnExit();
+    return file;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.io.OutputTo;
+import org.eclipse.jgit.lib.Constants;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+import org.llorllale.mvn.plgn.loggit.xsl.post.Markdown;
+
+/**
+ * Tests for {@link MarkdownStream}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MarkdownStreamTest {
+  /**
+   * Writes the same markdown as the stylesheet.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void sameAsStylesheet() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "test@test.com", "First <commit> & \"quotes\"\n\nWith a body");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    repo.commit("Ünïcødé", "test@test.com", "Second commit  ");
+    final Log log = new DefaultLog(
+      repo.repository(), () -> repo.repository().findRef(Constants.MASTER)
+    );
+    assertThat(
+      this.write(log),
+      equalTo(new Markdown().applyTo(log.asXml()))
+    );
+  }
+
+  /**
+   * An empty log is just the title.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void emptyLog() throws Exception {
+    assertThat(
+      this.write(new MockLog()),
+      equalTo("# CHANGELOG\n")
+    );
+  }
+
+  /**
+   * Writes the log with {@link MarkdownStream}.
+   * 
+   * @param log the log
+   * @return the markdown
+   * @throws IOException unexpected
+   */
+  private String write(Log log) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new MarkdownStream(log).writeTo(new OutputTo(out));
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
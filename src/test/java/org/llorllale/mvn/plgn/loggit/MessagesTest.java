@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.pre.Regex;
+
+/**
+ * Tests for {@link Messages}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MessagesTest {
+  /**
+   * Only the commits with a match are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void includesMatching() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("First commit");
+    repo.commit("Merge branch 'bot/update'");
+    final RevCommit third = repo.commit("Third commit\n\nWith a body");
+    assertThat(
+      repo.walked(new Messages(new Regex("commit$", "m"), true)),
+      contains(third.getName(), first.getName())
+    );
+  }
+
+  /**
+   * Only the commits without a match are walked.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void excludesMatching() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("First commit");
+    repo.commit("MERGE branch 'bot/update'");
+    final RevCommit third = repo.commit("Third commit");
+    assertThat(
+      repo.walked(new Messages(new Regex("^merge", "i"), false)),
+      contains(third.getName(), first.getName())
+    );
+  }
+
+  /**
+   * The {@code .*} regex filters no commit, even when excluding.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void anyFiltersNone() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("First commit");
+    final RevCommit second = repo.commit("Second commit");
+    assertThat(
+      repo.walked(new Messages(new Regex(".*", ""), false)),
+      contains(second.getName(), first.getName())
+    );
+  }
+
+  /**
+   * The including and excluding filters can be combined.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void combined() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("First commit");
+    final RevCommit second = repo.commit("Second commit");
+    repo.commit("Third change");
+    assertThat(
+      repo.walked(new WalkFilters(
+          new Messages(new Regex("commit", ""), true),
+          new Messages(new Regex("First", ""), false)
+        )
+      ),
+      contains(second.getName())
+    );
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static com.jcabi.matchers.RegexMatchers.matchesPattern;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+
+/**
+ * Tests for {@link MeteredCommit}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MeteredCommitTest {
+  /**
+   * The commit's fields are those of the origin.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void delegates() {
+    assertThat(
+      new MeteredCommit(new Metrics(), new MockCommit("1", "Message")).shortMessage(),
+      is("Message")
+    );
+  }
+
+  /**
+   * Resolving the tags is timed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void timesTags() throws Exception {
+    final Metrics metrics = new Metrics();
+    assertThat(
+      new MeteredCommit(metrics, new MockCommit("1", "Message", "v1.0")).tags(),
+      contains("v1.0")
+    );
+    assertThat(metrics.asLines(), contains(matchesPattern("tags: .* ms")));
+  }
+}
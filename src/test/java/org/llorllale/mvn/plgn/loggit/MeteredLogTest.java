@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static com.jcabi.matchers.RegexMatchers.matchesPattern;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.Assert.assertThat;
+
+import org.cactoos.iterable.LengthOf;
+import org.cactoos.iterable.Mapped;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+
+/**
+ * Tests for {@link MeteredLog}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MeteredLogTest {
+  private static final Log LOG = new MockLog(
+    new MockCommit("2", "Second", "v2.0"),
+    new MockCommit("1", "First")
+  );
+
+  /**
+   * The commits are those of the origin log.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsCommits() throws Exception {
+    assertThat(
+      new Mapped<>(
+        Commit::id, new MeteredLog("walk", "walked", new Metrics(), LOG).commits()
+      ),
+      contains("2", "1")
+    );
+  }
+
+  /**
+   * The commits read are counted and their reading is timed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void countsAndTimesCommits() throws Exception {
+    final Metrics metrics = new Metrics();
+    new LengthOf(new MeteredLog("walk", "walked", metrics, LOG).commits()).intValue();
+    assertThat(
+      metrics.asLines(),
+      contains(matchesPattern("walk: .* ms"), matchesPattern("walked: 2"))
+    );
+  }
+
+  /**
+   * The resolution of the commits' tags is timed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void timesTags() throws Exception {
+    final Metrics metrics = new Metrics();
+    for (Commit commit : new MeteredLog("walk", "walked", metrics, LOG).commits()) {
+      commit.tags();
+    }
+    assertThat(metrics.asLines(), hasItem(matchesPattern("tags: .* ms")));
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (5 lines)
+import static com.jcabi.matchers.RegexMatchers.matchesPattern;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.text.TextOf;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Metrics}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MetricsTest {
+  /**
+   * A phase's time excludes the time of the phases nested in it.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void excludesNestedPhases() throws Exception {
+    final Metrics metrics = new Metrics();
+    final int millis = 200;
+    metrics.timed(
+      "outer",
+      () -> metrics.timed(
+        "inner",
+        () -> {
+          Thread.sleep(millis);
+          return millis;
+        }
+      )
+    );
+    final List<String> lines = metrics.asLines();
+    assertThat(lines.get(0), matchesPattern("inner: (\\d{3,}).\\d{3} ms"));
+    assertThat(lines.get(1), matchesPattern("outer: \\d{1,2}.\\d{3} ms"));
+  }
+
+  /**
+   * Phases timed more than once are added up.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void addsUpPhases() throws Exception {
+    final Metrics metrics = new Metrics();
+    metrics.timed("phase", () -> 1);
+    metrics.timed("phase", () -> 2);
+    assertThat(metrics.asLines().size(), is(1));
+  }
+
+  /**
+   * Counters are added up.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void addsUpCounters() {
+    final Metrics metrics = new Metrics();
+    metrics.count("commits", 1);
+    metrics.count("commits", 2);
+    assertThat(metrics.asLines(), contains("commits: 3"));
+  }
+
+  /**
+   * Peaks keep the highest value.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsPeak() {
+    final Metrics metrics = new Metrics();
+    metrics.peak("size", 2);
+    metrics.peak("size", 1);
+    assertThat(metrics.asLines(), hasItem("size: 2"));
+  }
+
+  /**
+   * The JSON has the phases and the counters.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void json() throws Exception {
+    final Metrics metrics = new Metrics();
+    metrics.timed("walk", () -> 1);
+    metrics.timed("write", () -> 1);
+    metrics.count("commits", 1);
+    assertThat(
+      metrics.asJson(),
+      matchesPattern(
+        // @checkstyle LineLength (1 line)
+        "\\{\"phases\":\\{\"walk\":\\d+\\.\\d{3},\"write\":\\d+\\.\\d{3}},\"counters\":\\{\"commits\":1}}"
+      )
+    );
+  }
+
+  /**
+   * The report has each line, and the JSON is saved to the file.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void report() throws Exception {
+    final Metrics metrics = new Metrics();
+    metrics.count("commits", 1);
+    final List<String> lines = new ArrayList<>();
+    final File file = Files.createTempDirectory("").resolve("metrics.json").toFile();
+    metrics.report(lines::add, file);
+    assertThat(lines, contains("commits: 1"));
+    assertThat(new TextOf(file).asString(), is(metrics.asJson()));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Moment}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class MomentTest {
+  private static final Clock CLOCK = Clock.fixed(
+    Instant.parse("2018-03-31T12:00:00Z"), ZoneOffset.ofHours(2)
+  );
+
+  /**
+   * A date is the start of that day in the clock's time zone.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void date() throws Exception {
+    assertThat(
+      new Moment("2018-01-15", MomentTest.CLOCK).value(),
+      is(Instant.parse("2018-01-14T22:00:00Z"))
+    );
+  }
+
+  /**
+   * A date-time without offset is in the clock's time zone.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void localDateTime() throws Exception {
+    assertThat(
+      new Moment("2018-01-15T10:30:00", MomentTest.CLOCK).value(),
+      is(Instant.parse("2018-01-15T08:30:00Z"))
+    );
+  }
+
+  /**
+   * A date-time with an offset is exact.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void offsetDateTime() throws Exception {
+    assertThat(
+      new Moment("2018-01-15T10:30:00Z", MomentTest.CLOCK).value(),
+      is(Instant.parse("2018-01-15T10:30:00Z"))
+    );
+  }
+
+  /**
+   * A period is that long ago.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void period() throws Exception {
+    assertThat(
+      new Moment("P30D", MomentTest.CLOCK).value(),
+      is(Instant.parse("2018-03-01T12:00:00Z"))
+    );
+  }
+
+  /**
+   * A duration is that long ago.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void duration() throws Exception {
+    assertThat(
+      new Moment("PT12H", MomentTest.CLOCK).value(),
+      is(Instant.parse("2018-03-31T00:00:00Z"))
+    );
+  }
+
+  /**
+   * Anything else is an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfInvalid() throws Exception {
+    new Moment("last tuesday", MomentTest.CLOCK).value();
+  }
+}
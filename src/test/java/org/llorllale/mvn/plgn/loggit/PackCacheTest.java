@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PackCache}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class PackCacheTest {
+  /**
+   * A repo without packs gets JGit's default sizes.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void defaultsWithoutPacks() throws Exception {
+    final WindowCacheConfig cache = new PackCache(
+      Files.createTempDirectory(""), Collections.emptyMap()
+    ).value();
+    assertThat(
+      new long[] {
+        cache.getPackedGitLimit(), cache.getPackedGitWindowSize(), cache.getDeltaBaseCacheLimit(),
+      },
+      equalTo(
+        new long[] {
+          10 * WindowCacheConfig.MB, 8 * WindowCacheConfig.KB, 10 * WindowCacheConfig.MB,
+        }
+      )
+    );
+  }
+
+  /**
+   * Large packs are read with a larger cache, in larger windows.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void growsWithPacks() throws Exception {
+    final Path dir = Files.createTempDirectory("");
+    final Path packs = Files.createDirectories(dir.resolve("objects").resolve("pack"));
+    try (RandomAccessFile pack = new RandomAccessFile(packs.resolve("a.pack").toFile(), "rw")) {
+      pack.setLength(300L * WindowCacheConfig.MB);
+    }
+    final WindowCacheConfig cache = new PackCache(dir, Collections.emptyMap()).value();
+    assertThat(cache.getPackedGitWindowSize(), equalTo(64 * WindowCacheConfig.KB));
+    assertThat(cache.getPackedGitLimit(), greaterThan(10L * WindowCacheConfig.MB));
+  }
+
+  /**
+   * Explicit settings take precedence, with git's units.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void explicitSettings() throws Exception {
+    final WindowCacheConfig cache = new PackCache(
+      Files.createTempDirectory(""),
+      new MapOf<>(
+        new MapEntry<>("packedGitLimit", "512m"),
+        new MapEntry<>("packedGitWindowSize", "16k"),
+        new MapEntry<>("deltaBaseCacheLimit", ""),
+        new MapEntry<>("packedGitMMAP", "true")
+      )
+    ).value();
+    assertThat(
+      new Object[] {
+        cache.getPackedGitLimit(), cache.getPackedGitWindowSize(),
+        cache.getDeltaBaseCacheLimit(), cache.isPackedGitMMAP(),
+      },
+      equalTo(
+        new Object[] {
+          512L * WindowCacheConfig.MB, 16 * WindowCacheConfig.KB, 10 * WindowCacheConfig.MB, true,
+        }
+      )
+    );
+  }
+
+  /**
+   * Invalid settings are an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void invalidSetting() throws Exception {
+    new PackCache(
+      Files.createTempDirectory(""),
+      new MapOf<>(new MapEntry<>("packedGitLimit", "lots"))
+    ).value();
+  }
+}
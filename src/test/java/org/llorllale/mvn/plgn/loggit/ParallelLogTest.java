@@ -0,0 +1,244 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (6 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+
+/**
+ * Tests for {@link ParallelLog}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class ParallelLogTest {
+  /**
+   * Commits are handed out in the origin's order across several batches.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsOrder() throws Exception {
+    final List<String> ids = this.ids(1000);
+    assertThat(
+      new ListOf<>(new Mapped<>(Commit::id, new ParallelLog(4, this.log(ids)).commits())),
+      contains(ids.toArray())
+    );
+  }
+
+  /**
+   * The log's XML has every commit's XML in the origin's order.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void rendersInOrder() throws Exception {
+    final List<String> ids = this.ids(300);
+    assertThat(
+      new ParallelLog(3, this.log(ids)).asXml().xpath("/log/commits/commit/id/text()"),
+      contains(ids.toArray())
+    );
+  }
+
+  /**
+   * With a single thread the origin's commits are handed out as they are.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void singleThreadDelegates() throws Exception {
+    final Commit commit = new MockCommit("1", "Message");
+    assertThat(
+      new ParallelLog(1, new MockLog(commit)).commits().iterator().next(),
+      sameInstance(commit)
+    );
+  }
+
+  /**
+   * All batches of an iteration are rendered by the same threads, which stop once the
+   * commits run out.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void reusesThreadsUntilExhausted() throws Exception {
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    new ParallelLog(4, this.log(this.ids(1000), threads)).commits().forEach(commit -> { });
+    assertThat(threads.size(), lessThanOrEqualTo(4));
+    assertThat(this.alive(threads), empty());
+  }
+
+  /**
+   * The threads stop when the log is closed, even if not all commits were read.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void closeStopsThreads() throws Exception {
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    try (Log log = new ParallelLog(4, this.log(this.ids(1000), threads))) {
+      log.commits().iterator().next();
+    }
+    assertThat(this.alive(threads), empty());
+  }
+
+  /**
+   * The threads still alive after waiting for them to stop.
+   * 
+   * @param threads the threads
+   * @return those still alive
+   * @throws InterruptedException unexpected
+   */
+  private Collection<Thread> alive(Set<Thread> threads) throws InterruptedException {
+    final List<Thread> alive = new ArrayList<>(threads.size());
+    for (Thread thread : threads) {
+      thread.join(10_000);
+      if (thread.isAlive()) {
+        alive.add(thread);
+      }
+    }
+    return alive;
+  }
+
+  /**
+   * Commit ids.
+   * 
+   * @param count how many
+   * @return the ids
+   */
+  private List<String> ids(int count) {
+    final List<String> ids = new ArrayList<>(count);
+    for (int idx = 0; idx < count; ++idx) {
+      ids.add(String.format("%040d", idx));
+    }
+    return ids;
+  }
+
+  /**
+   * A log with commits with the given ids.
+   * 
+   * @param ids the ids
+   * @return the log
+   */
+  private Log log(List<String> ids) {
+    final List<Commit> commits = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      commits.add(new MockCommit(id, String.format("Commit %s", id)));
+    }
+    return new MockLog(commits.toArray(new Commit[commits.size()]));
+  }
+
+  /**
+   * A log with commits with the given ids that record the threads rendering them.
+   * 
+   * @param ids the ids
+   * @param threads where the threads are recorded
+   * @return the log
+   */
+  private Log log(List<String> ids, Set<Thread> threads) {
+    final List<Commit> commits = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      commits.add(new Recorded(new MockCommit(id, String.format("Commit %s", id)), threads));
+    }
+    return new MockLog(commits.toArray(new Commit[commits.size()]));
+  }
+
+  /**
+   * A commit that records the threads rendering it.
+   */
+  private static final class Recorded implements Commit {
+    private final Commit origin;
+    private final Set<Thread> threads;
+
+    /**
+     * Ctor.
+     * 
+     * @param origin the commit
+     * @param threads where the threads are recorded
+     */
+    Recorded(Commit origin, Set<Thread> threads) {
+      this.origin = origin;
+      this.threads = threads;
+    }
+
+    @Override
+    public String id() {
+      return this.origin.id();
+    }
+
+    @Override
+    public String author() {
+      return this.origin.author();
+    }
+
+    @Override
+    public String email() {
+      return this.origin.email();
+    }
+
+    @Override
+    public Instant date() {
+      return this.origin.date();
+    }
+
+    @Override
+    public String shortMessage() {
+      return this.origin.shortMessage();
+    }
+
+    @Override
+    public String fullMessage() {
+      return this.origin.fullMessage();
+    }
+
+    @Override
+    public Iterable<String> tags() throws IOException {
+      return this.origin.tags();
+    }
+
+    @Override
+    public XML asXml() {
+      this.threads.add(Thread.currentThread());
+      return this.origin.asXml();
+    }
+  }
+}
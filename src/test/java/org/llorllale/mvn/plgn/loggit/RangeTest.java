@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Range}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class RangeTest {
+  /**
+   * Only the commits reachable from the end and not from the start are walked, whether the
+   * tags are annotated or not.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void tagToTag() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.addCommit(repo, 1);
+    repo.git().tag().setName("v1").setObjectId(first).setAnnotated(true).call();
+    final RevCommit second = this.addCommit(repo, 2);
+    final RevCommit third = this.addCommit(repo, 3);
+    repo.git().tag().setName("v2").setObjectId(third).setAnnotated(false).call();
+    // @checkstyle MagicNumber (1 line)
+    this.addCommit(repo, 4);
+    assertThat(
+      this.walked(repo, new Range(repo.repository(), "v1..v2")),
+      contains(third.getName(), second.getName())
+    );
+  }
+
+  /**
+   * Without an end, the range ends at the branch.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void endsAtBranch() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.addCommit(repo, 1);
+    repo.git().tag().setName("v1").setObjectId(first).call();
+    final RevCommit second = this.addCommit(repo, 2);
+    assertThat(
+      this.walked(repo, new Range(repo.repository(), "v1..")),
+      contains(second.getName())
+    );
+  }
+
+  /**
+   * The history well before the start is never parsed, so removing it from the object
+   * database goes unnoticed.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void stopsAtStart() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.addCommit(repo, 1);
+    // @checkstyle MagicNumber (1 line)
+    for (int day = 2; day < 20; ++day) {
+      this.addCommit(repo, day);
+    }
+    repo.git().tag().setName("v1").call();
+    // @checkstyle MagicNumber (1 line)
+    final RevCommit last = this.addCommit(repo, 20);
+    final String name = first.getName();
+    Files.delete(
+      repo.repository().getDirectory().toPath()
+        .resolve("objects").resolve(name.substring(0, 2)).resolve(name.substring(2))
+    );
+    assertThat(
+      this.walked(repo, new Range(repo.repository(), "v1..")),
+      contains(last.getName())
+    );
+  }
+
+  /**
+   * The end may be a commit id rather than a ref.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void commitAsEnd() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.addCommit(repo, 1);
+    repo.git().tag().setName("v1").setObjectId(first).call();
+    final RevCommit second = this.addCommit(repo, 2);
+    // @checkstyle MagicNumber (1 line)
+    this.addCommit(repo, 3);
+    final Range range = new Range(
+      repo.repository(), String.format("v1..%s", second.getName().substring(0, 10))
+    );
+    assertThat(
+      new ListOf<>(
+        new Mapped<>(
+          Commit::id,
+          new DefaultGit(
+            new Repositories(), repo.repository().getDirectory().toPath(),
+            range.end(Constants.MASTER), range
+          ).log().commits()
+        )
+      ),
+      contains(second.getName())
+    );
+  }
+
+  /**
+   * A range whose end cannot be resolved is invalid.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorWithUnknownEnd() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    this.addCommit(repo, 1);
+    new Range(repo.repository(), "..v2").end(Constants.MASTER);
+  }
+
+  /**
+   * An empty range walks all commits.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void emptyWalksAll() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = this.addCommit(repo, 1);
+    final RevCommit second = this.addCommit(repo, 2);
+    assertThat(
+      this.walked(repo, new Range(repo.repository(), "")),
+      contains(second.getName(), first.getName())
+    );
+  }
+
+  /**
+   * A range without {@code ..} is invalid.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorWithoutDots() throws Exception {
+    new Range(new TmpRepo().repository(), "v1").end(Constants.MASTER);
+  }
+
+  /**
+   * A range whose start cannot be resolved is invalid.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorWithUnknownStart() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    this.addCommit(repo, 1);
+    this.walked(repo, new Range(repo.repository(), "v1..master"));
+  }
+
+  /**
+   * The ids of the commits walked in a range, from its end or from master.
+   * 
+   * @param repo the repo
+   * @param range the range
+   * @return the ids
+   * @throws IOException unexpected
+   */
+  private List<String> walked(TmpRepo repo, Range range) throws IOException {
+    return repo.walked(range, range.end(Constants.MASTER));
+  }
+
+  /**
+   * Adds a commit to the repo, committed on a day of January 2018.
+   * 
+   * @param repo the repo
+   * @param day the commit's day
+   * @return the revcommit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   */
+  private RevCommit addCommit(
+    TmpRepo repo, int day
+  ) throws IOException, GitAPIException {
+    return repo.commit(
+      Integer.toString(day), Instant.parse(String.format("2018-01-%02dT00:00:00Z", day))
+    );
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Reachability}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class ReachabilityTest {
+  /**
+   * An ancestor is reachable when the repo has no bitmap index.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void ancestorWithoutBitmaps() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    final RevCommit second = repo.commit("second");
+    assertThat(this.reachable(repo, first, second), is(true));
+  }
+
+  /**
+   * A descendant is not reachable when the repo has no bitmap index.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void descendantWithoutBitmaps() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    final RevCommit second = repo.commit("second");
+    assertThat(this.reachable(repo, second, first), is(false));
+  }
+
+  /**
+   * An ancestor is reachable when the repo has a bitmap index.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void ancestorWithBitmaps() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    final RevCommit second = repo.commit("second");
+    repo.git().gc().call();
+    assertThat(this.reachable(repo, first, second), is(true));
+  }
+
+  /**
+   * A descendant is not reachable when the repo has a bitmap index.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void descendantWithBitmaps() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    final RevCommit second = repo.commit("second");
+    repo.git().gc().call();
+    assertThat(this.reachable(repo, second, first), is(false));
+  }
+
+  /**
+   * Commits made after the bitmap index was written are walked until the indexed history.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void ancestorOfCommitsAfterRepack() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    repo.commit("second");
+    repo.git().gc().call();
+    final RevCommit third = repo.commit("third");
+    assertThat(this.reachable(repo, first, third), is(true));
+  }
+
+  /**
+   * Whether {@code commit} is reachable from {@code tip}.
+   * 
+   * @param repo the repo
+   * @param commit the commit
+   * @param tip the tip
+   * @return whether it's reachable
+   * @throws IOException unexpected
+   */
+  private boolean reachable(
+    TmpRepo repo, RevCommit commit, RevCommit tip
+  ) throws IOException {
+    try (RevWalk walk = new RevWalk(repo.repository())) {
+      return new Reachability(walk).reachable(
+        walk.parseCommit(commit), walk.parseCommit(tip)
+      );
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+
+/**
+ * Tests for {@link RenderedCommit}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class RenderedCommitTest {
+  /**
+   * The commit's fields are those of the origin.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void delegates() {
+    assertThat(
+      new RenderedCommit(
+        new MockCommit("1", "Message"), new XMLDocument("<commit/>")
+      ).shortMessage(),
+      is("Message")
+    );
+  }
+
+  /**
+   * The commit's XML is the one given.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void rendered() {
+    final XML xml = new XMLDocument("<commit/>");
+    assertThat(
+      new RenderedCommit(new MockCommit("1", "Message"), xml).asXml(),
+      sameInstance(xml)
+    );
+  }
+}
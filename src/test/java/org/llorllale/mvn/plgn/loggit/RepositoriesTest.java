@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Repositories}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class RepositoriesTest {
+  /**
+   * Paths to the same git dir share a repository.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void sharesRepositoriesOfSameDir() throws Exception {
+    final Path dir = this.gitDir();
+    try (Repositories repos = new Repositories()) {
+      final Repository repo = repos.open(dir);
+      assertThat(repos.open(dir.resolve(".")), sameInstance(repo));
+    }
+  }
+
+  /**
+   * Closing the pool closes its repositories, so they are opened again.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void reopensAfterClose() throws Exception {
+    final Path dir = this.gitDir();
+    final Repositories repos = new Repositories();
+    final Repository repo = repos.open(dir);
+    repos.close();
+    assertThat(repos.open(dir), not(sameInstance(repo)));
+    repos.close();
+  }
+
+  /**
+   * Error if the git dir does not exist.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfNoDir() throws Exception {
+    try (Repositories repos = new Repositories()) {
+      repos.open(Files.createTempDirectory("").resolve("missing"));
+    }
+  }
+
+  /**
+   * Initializes a git repo in a temp directory.
+   * 
+   * @return the repo's git dir
+   * @throws Exception unexpected
+   */
+  private Path gitDir() throws Exception {
+    return new TmpRepo().repository().getDirectory().toPath();
+  }
+}
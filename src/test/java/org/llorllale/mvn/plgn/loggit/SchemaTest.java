@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import javax.xml.transform.stream.StreamSource;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Schema}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class SchemaTest {
+  private static final String PARTIAL =
+    "<log><commits><commit><id>1</id></commit></commits></log>";
+
+  /**
+   * A log without commits is valid.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void acceptsValidLog() {
+    assertThat(
+      new Schema().validate(
+        new StreamSource(new StringReader("<log><commits/></log>"))
+      ),
+      empty()
+    );
+  }
+
+  /**
+   * Validation errors are reported instead of thrown.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void reportsInvalidLog() {
+    assertThat(
+      new Schema().validate(
+        new StreamSource(new StringReader("<log><commit/></log>"))
+      ),
+      not(empty())
+    );
+  }
+
+  /**
+   * Each validation gets its own errors, even though the schema is shared.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void doesNotShareErrorsBetweenValidations() {
+    final Schema schema = new Schema();
+    schema.validate(new StreamSource(new StringReader("<log/>")));
+    assertThat(
+      schema.validate(
+        new StreamSource(new StringReader("<log><commits/></log>"))
+      ),
+      empty()
+    );
+  }
+
+  /**
+   * A complete log's commits must have all their fields.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void rejectsCommitWithoutFields() {
+    assertThat(
+      new Schema().validate(
+        new StreamSource(new StringReader(PARTIAL))
+      ),
+      not(empty())
+    );
+  }
+
+  /**
+   * The partial schema accepts commits with only some of their fields.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void partialAcceptsCommitWithoutFields() {
+    assertThat(
+      new Schema("/xsd/partial.xsd").validate(
+        new StreamSource(new StringReader(PARTIAL))
+      ),
+      empty()
+    );
+  }
+}
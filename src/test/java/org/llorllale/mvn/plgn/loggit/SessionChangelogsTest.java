@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SessionChangelogs}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class SessionChangelogsTest {
+  /**
+   * Every module of a session shares the changelogs.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void sharedBySession() {
+    final MavenSession session = this.session();
+    assertThat(
+      new SessionChangelogs(session).value(),
+      sameInstance(new SessionChangelogs(session).value())
+    );
+  }
+
+  /**
+   * Sessions don't share changelogs.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void notSharedAcrossSessions() {
+    assertThat(
+      new SessionChangelogs(this.session()).value(),
+      not(sameInstance(new SessionChangelogs(this.session()).value()))
+    );
+  }
+
+  /**
+   * A new Maven session.
+   * 
+   * @return the session
+   */
+  @SuppressWarnings("deprecation")
+  private MavenSession session() {
+    return new MavenSession(
+      null,
+      new DefaultRepositorySystemSession(),
+      new DefaultMavenExecutionRequest(),
+      new DefaultMavenExecutionResult()
+    );
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.ExecutionEvent;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SessionEnd}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class SessionEndTest {
+  /**
+   * The resource is closed when the session ends, and the origin still hears of it.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void closesWhenSessionEnds() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final AtomicBoolean ended = new AtomicBoolean();
+    new SessionEnd(
+      new AbstractExecutionListener() {
+        @Override
+        public void sessionEnded(ExecutionEvent event) {
+          ended.set(closed.get());
+        }
+      },
+      () -> closed.set(true)
+    ).sessionEnded(null);
+    assertThat(ended.get(), is(true));
+  }
+
+  /**
+   * Other events are forwarded without closing the resource.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void forwardsEvents() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final AtomicBoolean started = new AtomicBoolean();
+    new SessionEnd(
+      new AbstractExecutionListener() {
+        @Override
+        public void mojoStarted(ExecutionEvent event) {
+          started.set(true);
+        }
+      },
+      () -> closed.set(true)
+    ).mojoStarted(null);
+    assertThat(started.get() && !closed.get(), is(true));
+  }
+}
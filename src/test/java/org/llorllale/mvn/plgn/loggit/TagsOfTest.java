@@ -21,9 +21,6 @@ import static com.jcabi.matchers.XhtmlMatchers.hasXPath;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.revwalk.RevCommit;
@@ -48,13 +45,13 @@ public final class TagsOfTest {
    */
   @Test
   public void includesTagsForAGivenCommit() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final RevCommit first = this.addCommit(repo, "first", "first@gmail.com", "test");
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@gmail.com", "test");
     final Ref tag = this.tag(repo, "v1.0");
-    final RevCommit second = this.addCommit(repo, "second", "second@gmail.com", "test");
+    final RevCommit second = repo.commit("second", "second@gmail.com", "test");
     assertThat(
       new Xembler(
-        new Directives().add("taggedAs").append(new TagsOf(repo.getRepository(), first))
+        new Directives().add("taggedAs").append(new TagsOf(repo.repository(), first))
       ).xml(),
       hasXPath("/taggedAs/tag[. = 'v1.0']")
     );
@@ -68,13 +65,13 @@ public final class TagsOfTest {
    */
   @Test
   public void noTagsIfGivenCommitWasNotTagged() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final RevCommit first = this.addCommit(repo, "first", "first@gmail.com", "test");
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@gmail.com", "test");
     final Ref tag = this.tag(repo, "v1.0");
-    final RevCommit second = this.addCommit(repo, "second", "second@gmail.com", "test");
+    final RevCommit second = repo.commit("second", "second@gmail.com", "test");
     assertThat(
       new Xembler(
-        new Directives().add("taggedAs").append(new TagsOf(repo.getRepository(), second))
+        new Directives().add("taggedAs").append(new TagsOf(repo.repository(), second))
       ).xml(),
       not(hasXPath("/taggedAs[count(tag) > 0]"))
     );   
@@ -88,55 +85,17 @@ public final class TagsOfTest {
    */
   @Test
   public void emptyTags() throws Exception {
-    final org.eclipse.jgit.api.Git repo = this.repo();
-    final RevCommit first = this.addCommit(repo, "first", "first@gmail.com", "test");
-    final RevCommit second = this.addCommit(repo, "second", "second@gmail.com", "test");
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@gmail.com", "test");
+    final RevCommit second = repo.commit("second", "second@gmail.com", "test");
     assertThat(
       new Xembler(
-        new Directives().add("taggedAs").append(new TagsOf(repo.getRepository(), second))
+        new Directives().add("taggedAs").append(new TagsOf(repo.repository(), second))
       ).xml(),
       not(hasXPath("/taggedAs[count(tag) > 0]"))
     );
   }
 
-  /**
-   * Initializes a git repo in a temp directory.
-   * 
-   * @return the repo
-   * @throws IOException unexpected
-   * @throws GitAPIException unexpected
-   */
-  private org.eclipse.jgit.api.Git repo() throws IOException, GitAPIException {
-    final File dir = Files.createTempDirectory("").toFile();
-    return org.eclipse.jgit.api.Git.init()
-      .setDirectory(dir)
-      .call();
-  }
-
-  /**
-   * Adds a commit to the repo.
-   * 
-   * @param repo the repo
-   * @param author the author name
-   * @param email the author email
-   * @param msg the commit msg
-   * @return the revcommit
-   * @throws GitAPIException unexpected
-   * @throws IOException unexpected
-   */
-  private RevCommit addCommit(
-    org.eclipse.jgit.api.Git repo, String author, String email, String msg
-  ) throws GitAPIException, IOException {
-    Files.createFile(
-      repo.getRepository().getWorkTree().toPath().resolve(System.nanoTime() + "test.txt")
-    );
-    repo.add().addFilepattern(".").call();
-    return repo.commit()
-      .setAuthor(author, email)
-      .setMessage(msg)
-      .call();
-  }
-
   /**
    * Tags the repo.
    * 
@@ -145,7 +104,7 @@ public final class TagsOfTest {
    * @return the tag
    * @throws GitAPIException unexpected
    */
-  private Ref tag(org.eclipse.jgit.api.Git repo, String tag) throws GitAPIException {
-    return repo.tag().setName(tag).setMessage(tag).call();
+  private Ref tag(TmpRepo repo, String tag) throws GitAPIException {
+    return repo.git().tag().setName(tag).setMessage(tag).call();
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Tags}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class TagsTest {
+  /**
+   * Annotated tags are indexed by the commit they point to.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void indexesAnnotatedTags() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    repo.commit("second");
+    assertThat(
+      new Tags(repo.repository()).of(first),
+      contains("v1.0")
+    );
+  }
+
+  /**
+   * Lightweight tags are indexed by the commit they point to.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void indexesLightweightTags() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    repo.git().tag().setName("v1.0").setAnnotated(false).call();
+    assertThat(
+      new Tags(repo.repository()).of(first),
+      contains("v1.0")
+    );
+  }
+
+  /**
+   * All tags pointing to the same commit are returned.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void manyTagsForOneCommit() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    repo.git().tag().setName("stable").setMessage("stable").call();
+    assertThat(
+      new Tags(repo.repository()).of(first),
+      containsInAnyOrder("v1.0", "stable")
+    );
+  }
+
+  /**
+   * Commits without tags have no entries in the index.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void noTagsForUntaggedCommit() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    final RevCommit second = repo.commit("second");
+    assertThat(
+      new Tags(repo.repository()).of(second),
+      emptyIterable()
+    );
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * A git repo in a temp directory, for tests.
+ * 
+ * <p>Each commit adds a new file, in the work tree's root unless told otherwise. Commits are
+ * authored and committed by {@code test <test@test.com>} unless told otherwise.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+final class TmpRepo {
+  private static final String NAME = "test";
+  private static final String EMAIL = "test@test.com";
+  private static final Path ROOT = Paths.get("");
+  private final org.eclipse.jgit.api.Git git;
+
+  /**
+   * Ctor.
+   * 
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   * @since 1.2.0
+   */
+  TmpRepo() throws IOException, GitAPIException {
+    this.git = org.eclipse.jgit.api.Git.init()
+      .setDirectory(Files.createTempDirectory("").toFile())
+      .call();
+  }
+
+  /**
+   * The repo's porcelain, for tags, branches and the like.
+   * 
+   * @return the repo's porcelain
+   * @since 1.2.0
+   */
+  public org.eclipse.jgit.api.Git git() {
+    return this.git;
+  }
+
+  /**
+   * The repo.
+   * 
+   * @return the repo
+   * @since 1.2.0
+   */
+  public Repository repository() {
+    return this.git.getRepository();
+  }
+
+  /**
+   * Adds a commit.
+   * 
+   * @param msg the commit's message
+   * @return the commit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   * @since 1.2.0
+   */
+  public RevCommit commit(String msg) throws IOException, GitAPIException {
+    return this.commit(NAME, EMAIL, msg);
+  }
+
+  /**
+   * Adds a commit by an author.
+   * 
+   * @param author the author's name
+   * @param email the author's email address
+   * @param msg the commit's message
+   * @return the commit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   * @since 1.2.0
+   */
+  public RevCommit commit(
+    String author, String email, String msg
+  ) throws IOException, GitAPIException {
+    return this.commit(ROOT, new PersonIdent(author, email), msg);
+  }
+
+  /**
+   * Adds a commit authored and committed at a given time.
+   * 
+   * @param msg the commit's message
+   * @param time the time
+   * @return the commit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   * @since 1.2.0
+   */
+  public RevCommit commit(String msg, Instant time) throws IOException, GitAPIException {
+    return this.commit(
+      ROOT,
+      new PersonIdent(NAME, EMAIL, Date.from(time), TimeZone.getTimeZone("UTC")),
+      msg
+    );
+  }
+
+  /**
+   * Adds a commit whose file is in a directory of the work tree.
+   * 
+   * @param dir the directory, relative to the work tree's root
+   * @param msg the commit's message
+   * @return the commit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   * @since 1.2.0
+   */
+  public RevCommit commit(Path dir, String msg) throws IOException, GitAPIException {
+    return this.commit(dir, new PersonIdent(NAME, EMAIL), msg);
+  }
+
+  /**
+   * Adds a commit.
+   * 
+   * @param dir the directory of the commit's file, relative to the work tree's root
+   * @param person the commit's author and committer
+   * @param msg the commit's message
+   * @return the commit
+   * @throws IOException unexpected
+   * @throws GitAPIException unexpected
+   */
+  private RevCommit commit(
+    Path dir, PersonIdent person, String msg
+  ) throws IOException, GitAPIException {
+    final Path path = this.repository().getWorkTree().toPath().resolve(dir);
+    Files.createDirectories(path);
+    Files.createFile(path.resolve(System.nanoTime() + "test.txt"));
+    this.git.add().addFilepattern(".").call();
+    return this.git.commit()
+      .setAuthor(person)
+      .setCommitter(person)
+      .setMessage(msg)
+      .call();
+  }
+
+  /**
+   * The ids of the commits walked from {@code HEAD} with a filter.
+   * 
+   * @param filter the filter
+   * @return the ids, newest first
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  public List<String> walked(WalkFilter filter) throws IOException {
+    return this.walked(filter, Constants.HEAD);
+  }
+
+  /**
+   * The ids of the commits walked from a revision with a filter.
+   * 
+   * @param filter the filter
+   * @param start the revision the walk starts from
+   * @return the ids, newest first
+   * @throws IOException unexpected
+   * @since 1.2.0
+   */
+  public List<String> walked(WalkFilter filter, String start) throws IOException {
+    try (RevWalk walk = new RevWalk(this.repository())) {
+      filter.apply(walk);
+      walk.markStart(walk.parseCommit(this.repository().resolve(start)));
+      final List<RevCommit> commits = new ArrayList<>(1);
+      walk.forEach(commits::add);
+      return new ListOf<>(new Mapped<>(RevCommit::getName, commits));
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link UnionLogs}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class UnionLogsTest {
+  /**
+   * Each ref's log has the commits reachable from it.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void logOfEachRef() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    final RevCommit second = repo.commit("second");
+    repo.git().checkout().setCreateBranch(true).setName("maint").call();
+    final RevCommit fix = repo.commit("fix");
+    repo.git().checkout().setName(Constants.MASTER).call();
+    final RevCommit third = repo.commit("third");
+    final UnionLogs logs = new UnionLogs(
+      repo.repository(), new ListOf<>(Constants.MASTER, "maint"), true
+    );
+    assertThat(
+      new Mapped<>(Commit::id, logs.log(Constants.MASTER).commits()),
+      contains(third.getName(), second.getName(), first.getName())
+    );
+    assertThat(
+      new Mapped<>(Commit::id, logs.log("maint").commits()),
+      contains(fix.getName(), second.getName(), first.getName())
+    );
+  }
+
+  /**
+   * The union is walked once: the second ref's log is not read from the repo again.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void walksOnce() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first");
+    repo.git().branchCreate().setName("maint").call();
+    repo.commit("second");
+    final UnionLogs logs = new UnionLogs(
+      repo.repository(), new ListOf<>(Constants.MASTER, "maint"), true
+    );
+    logs.log(Constants.MASTER).commits();
+    this.delete(repo, first);
+    assertThat(
+      new Mapped<>(Commit::fullMessage, logs.log("maint").commits()),
+      contains("first")
+    );
+  }
+
+  /**
+   * An invalid ref is an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfInvalidRef() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first");
+    new UnionLogs(
+      repo.repository(), new ListOf<>(Constants.MASTER, "nonexistent"), true
+    ).log(Constants.MASTER).commits();
+  }
+
+  /**
+   * A ref that was not walked is an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfRefNotWalked() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first");
+    new UnionLogs(
+      repo.repository(), new ListOf<>(Constants.MASTER), true
+    ).log("maint").commits();
+  }
+
+  /**
+   * Deletes a commit's loose object from the repo.
+   * 
+   * @param repo the repo
+   * @param commit the commit
+   * @throws IOException unexpected
+   */
+  private void delete(TmpRepo repo, RevCommit commit) throws IOException {
+    final String name = commit.getId().getName();
+    Files.delete(
+      repo.repository().getDirectory().toPath()
+        .resolve("objects").resolve(name.substring(0, 2)).resolve(name.substring(2))
+    );
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPaths;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+
+/**
+ * Tests for {@link Validation}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class ValidationTest {
+  private static final String PARTIAL =
+    "<log><commits><commit><id>1</id></commit></commits></log>";
+  private static final Log LOG = new MockLog(
+    new MockCommit("2", "Second", "v2.0"),
+    new MockCommit("1", "First")
+  );
+
+  /**
+   * Strict mode produces the log's XML.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void strictXml() throws Exception {
+    assertThat(
+      new Validation("strict").xml(LOG),
+      hasXPaths(
+        "/log/commits[count(commit) = 2]",
+        "/log/commits/commit[1][id = '2']/taggedAs[tag = 'v2.0']"
+      )
+    );
+  }
+
+  /**
+   * Strict mode shuts its threads down, closing the log, once the XML is built.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void strictClosesLog() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean();
+    new Validation("strict", new Metrics(), 2).xml(
+      new LogEnvelope(LOG::commits, () -> closed.set(true)) { }
+    );
+    assertThat(closed.get(), is(true));
+  }
+
+  /**
+   * Final mode produces the same XML as strict mode.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void finalXml() throws Exception {
+    assertThat(
+      new Validation("final").xml(LOG),
+      hasXPaths(
+        "/log/commits[count(commit) = 2]",
+        "/log/commits/commit[1][id = '2']/taggedAs[tag = 'v2.0']"
+      )
+    );
+  }
+
+  /**
+   * Off mode produces the same XML as strict mode.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void offXml() throws Exception {
+    assertThat(
+      new Validation("off").xml(LOG),
+      hasXPaths(
+        "/log/commits[count(commit) = 2]",
+        "/log/commits/commit[1][id = '2']/taggedAs[tag = 'v2.0']"
+      )
+    );
+  }
+
+  /**
+   * Off mode reports a log that cannot be read, such as one of an invalid ref, as an
+   * {@link IOException}.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void offReportsInvalidRef() throws Exception {
+    new Validation("off").xml(new DefaultGit(Paths.get("."), "refs/heads/invalid").log());
+  }
+
+  /**
+   * Unknown modes are an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void unknownMode() throws Exception {
+    new Validation("lenient").xml(LOG);
+  }
+
+  /**
+   * A valid file passes the check.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void checksValidFile() throws Exception {
+    new Validation("final").check(this.file("<log><commits/></log>"), new Fields());
+  }
+
+  /**
+   * An invalid file fails the check.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void checksInvalidFile() throws Exception {
+    new Validation("strict").check(this.file("<log/>"), new Fields());
+  }
+
+  /**
+   * A file with only some of the commits' fields is checked against the partial schema.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void checksPartialFile() throws Exception {
+    new Validation("final").check(this.file(PARTIAL), new Fields("id"));
+  }
+
+  /**
+   * A complete log must have all of the commits' fields.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void checksCompleteFile() throws Exception {
+    new Validation("final").check(this.file(PARTIAL), new Fields());
+  }
+
+  /**
+   * Off mode doesn't check the file.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void offTrustsFile() throws Exception {
+    new Validation("off").check(this.file("<log/>"), new Fields());
+  }
+
+  /**
+   * A temporary file with the given contents.
+   * 
+   * @param xml the contents
+   * @return the file
+   * @throws IOException unexpected
+   */
+  private File file(String xml) throws IOException {
+    final File file = Files.createTempFile("", ".xml").toFile();
+    file.deleteOnExit();
+    Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPaths;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.xml.transform.stream.StreamSource;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+/**
+ * Tests for {@link XmlStream}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+@SuppressWarnings({"checkstyle:MethodName", "checkstyle:MultipleStringLiterals"})
+public final class XmlStreamTest {
+  /**
+   * All commits are written in order, with their tags.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesAllCommitsInOrder() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    final RevCommit second = repo.commit("second", "second@test.com", "Second commit");
+    assertThat(
+      new XMLDocument(this.write(repo)),
+      hasXPaths(
+        // @checkstyle LineLength (6 lines)
+        String.format("/log/commits/commit[1][id = '%s']/author[name = 'second']", second.getId().getName()),
+        String.format("/log/commits/commit[1][id = '%s']/message[short = 'Second commit']", second.getId().getName()),
+        String.format("/log/commits/commit[1][id = '%s']/taggedAs[not(tag)]", second.getId().getName()),
+        String.format("/log/commits/commit[2][id = '%s']/author[email = 'first@test.com']", first.getId().getName()),
+        String.format("/log/commits/commit[2][id = '%s']/message[full = 'First commit']", first.getId().getName()),
+        String.format("/log/commits/commit[2][id = '%s']/taggedAs[tag = 'v1.0']", first.getId().getName())
+      )
+    );
+  }
+
+  /**
+   * The output must comply with the {@link Schema}.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void compliesWithSchema() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First <commit> & \"quotes\"");
+    assertThat(
+      new Schema().validate(
+        new StreamSource(new InputOf(this.write(repo)).stream())
+      ),
+      empty()
+    );
+  }
+
+  /**
+   * Only the given fields are written, and the output still complies with the {@link Schema}.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesOnlyGivenFields() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    final String xml = this.write(repo, new Fields("short, tags"), true);
+    assertThat(
+      new XMLDocument(xml),
+      hasXPaths(
+        String.format("/log/commits/commit[id = '%s']", first.getId().getName()),
+        "/log/commits/commit[not(author)]",
+        "/log/commits/commit/message[short = 'First commit' and not(full)]",
+        "/log/commits/commit/taggedAs"
+      )
+    );
+    assertThat(
+      new Schema("/xsd/partial.xsd").validate(new StreamSource(new InputOf(xml).stream())),
+      empty()
+    );
+  }
+
+  /**
+   * Ids and tags are written from a log that dropped the commits' bodies.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void writesIdsWithoutBodies() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final RevCommit first = repo.commit("first", "first@test.com", "First commit");
+    repo.git().tag().setName("v1.0").setMessage("v1.0").call();
+    assertThat(
+      new XMLDocument(this.write(repo, new Fields("id,tags"), false)),
+      hasXPaths(
+        String.format("/log/commits/commit[id = '%s']/taggedAs[tag = 'v1.0']", first.getName()),
+        "/log/commits/commit[not(message)]"
+      )
+    );
+  }
+
+  /**
+   * Fields with unknown names are an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfUnknownField() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    repo.commit("first", "first@test.com", "First commit");
+    this.write(repo, new Fields("id,subject"), true);
+  }
+
+  /**
+   * Nothing is written if the log cannot be read.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfNoBranch() throws Exception {
+    final TmpRepo repo = new TmpRepo();
+    final File file = new File(repo.repository().getWorkTree(), "log.xml");
+    try {
+      new XmlStream(
+        new DefaultLog(
+          repo.repository(), () -> repo.repository().findRef(Constants.MASTER)
+        )
+      ).writeTo(new OutputTo(file));
+    } finally {
+      assertThat(file.exists(), is(false));
+    }
+  }
+
+  /**
+   * Writes the repo's log with {@link XmlStream}.
+   * 
+   * @param repo the repo
+   * @return the XML
+   * @throws IOException unexpected
+   */
+  private String write(TmpRepo repo) throws IOException {
+    return this.write(repo, new Fields(), true);
+  }
+
+  /**
+   * Writes the given fields of the repo's log with {@link XmlStream}.
+   * 
+   * @param repo the repo
+   * @param fields the fields
+   * @param bodies whether the log keeps the commits' bodies
+   * @return the XML
+   * @throws IOException unexpected
+   */
+  private String write(
+    TmpRepo repo, Fields fields, boolean bodies
+  ) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new XmlStream(
+      new DefaultLog(
+        repo.repository(), () -> repo.repository().findRef(Constants.MASTER),
+        new Tags(repo.repository()), bodies
+      ),
+      fields
+    ).writeTo(new OutputTo(out));
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
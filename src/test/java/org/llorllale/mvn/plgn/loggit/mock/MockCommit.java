@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.mock;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.time.Instant;
+import org.cactoos.iterable.IterableOf;
+import org.llorllale.mvn.plgn.loggit.Commit;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Mock {@link Commit} for tests.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class MockCommit implements Commit {
+  private final String identifier;
+  private final String message;
+  private final Iterable<String> names;
+
+  /**
+   * Ctor.
+   * 
+   * @param id the commit's ID
+   * @param message the commit's message
+   * @param tags the commit's tags
+   * @since 1.2.0
+   */
+  public MockCommit(String id, String message, String... tags) {
+    this.identifier = id;
+    this.message = message;
+    this.names = new IterableOf<>(tags);
+  }
+
+  @Override
+  public String id() {
+    return this.identifier;
+  }
+
+  @Override
+  public String author() {
+    return "mock";
+  }
+
+  @Override
+  public String email() {
+    return "mock@test.com";
+  }
+
+  @Override
+  public Instant date() {
+    return Instant.EPOCH;
+  }
+
+  @Override
+  public String shortMessage() {
+    return this.message.split("\\n")[0];
+  }
+
+  @Override
+  public String fullMessage() {
+    return this.message;
+  }
+
+  @Override
+  public Iterable<String> tags() {
+    return this.names;
+  }
+
+  @Override
+  public XML asXml() {
+    final Directives tags = new Directives();
+    for (String tag : this.names) {
+      tags.add("tag").set(tag).up();
+    }
+    return new XMLDocument(
+      new Xembler(
+        new Directives()
+          .add("commit")
+            .add("id").set(this.id()).up()
+            .add("author")
+              .add("name").set(this.author()).up()
+              .add("email").set(this.email()).up()
+              .add("date").set(this.date()).up()
+              .up()
+            .add("message")
+              .add("short").set(this.shortMessage()).up()
+              .add("full").set(this.fullMessage()).up()
+              .up()
+            .add("taggedAs")
+            .append(tags)
+      ).xmlQuietly()
+    );
+  }
+}
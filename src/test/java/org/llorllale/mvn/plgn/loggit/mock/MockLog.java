@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.mock;
+
+import org.cactoos.iterable.IterableOf;
+import org.llorllale.mvn.plgn.loggit.Commit;
+import org.llorllale.mvn.plgn.loggit.LogEnvelope;
+
+/**
+ * Mock {@link org.llorllale.mvn.plgn.loggit.Log} for tests.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+public final class MockLog extends LogEnvelope {
+  /**
+   * Ctor.
+   * 
+   * @param commits the log's commits
+   * @since 1.2.0
+   */
+  public MockLog(Commit... commits) {
+    super(() -> new IterableOf<>(commits));
+  }
+}
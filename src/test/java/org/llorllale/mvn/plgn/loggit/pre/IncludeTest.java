@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.cactoos.iterable.Mapped;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.Commit;
+import org.llorllale.mvn.plgn.loggit.mock.MockCommit;
+import org.llorllale.mvn.plgn.loggit.mock.MockLog;
+
+/**
+ * Tests for {@link Include}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class IncludeTest {
+  private static final MockLog LOG = new MockLog(
+    new MockCommit("4", "Fourth commit"),
+    new MockCommit("3", "Third commit", "v2.0"),
+    new MockCommit("2", "Second commit\n\nWith a body"),
+    new MockCommit("1", "First commit", "v1.0", "stable")
+  );
+
+  /**
+   * Only commits with matching messages are kept.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void includesMatching() throws Exception {
+    assertThat(
+      new Mapped<>(Commit::id, new Include("First.*", "", IncludeTest.LOG).commits()),
+      contains("1")
+    );
+  }
+
+  /**
+   * The default regex keeps all commits.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void defaultRegex() throws Exception {
+    assertThat(
+      new Mapped<>(Commit::id, new Include(".*", "", IncludeTest.LOG).commits()),
+      contains("4", "3", "2", "1")
+    );
+  }
+
+  /**
+   * Flags are honored.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void caseInsensitive() throws Exception {
+    assertThat(
+      new Mapped<>(Commit::id, new Include("second commit", "i", IncludeTest.LOG).commits()),
+      contains("2")
+    );
+  }
+
+  /**
+   * Regexes match against the full message.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void matchesFullMessage() throws Exception {
+    assertThat(
+      new Mapped<>(Commit::id, new Include("body$", "", IncludeTest.LOG).commits()),
+      contains("2")
+    );
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.pre;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import net.sf.saxon.regex.ARegularExpression;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JavaPattern}.
+ * 
+ * <p>Every match is checked against Saxon's implementation of XPath's {@code fn:matches}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class JavaPatternTest {
+  /**
+   * Without the {@code s} flag the dot matches anything but {@code \n} and {@code \r}; with
+   * it, the dot matches line ends too.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void dot() throws Exception {
+    assertThat(this.found("a.b", "", "a\nb"), is(false));
+    assertThat(this.found("a.b", "", "a\rb"), is(false));
+    assertThat(this.found("a.b", "", "a\u0085b"), is(true));
+    assertThat(this.found("a.b", "s", "a\nb"), is(true));
+  }
+
+  /**
+   * Without the {@code m} flag {@code $} matches at the very end of the text only, even if
+   * it ends with a line end.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void dollarAtEnd() throws Exception {
+    assertThat(this.found("fix$", "", "fix\n"), is(false));
+    assertThat(this.found("fix$", "", "a fix"), is(true));
+  }
+
+  /**
+   * With the {@code m} flag {@code ^} and {@code $} match at every line.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void multiline() throws Exception {
+    assertThat(this.found("^b$", "m", "a\nb\nc"), is(true));
+    assertThat(this.found("^b$", "", "a\nb\nc"), is(false));
+  }
+
+  /**
+   * The {@code i} flag ignores case, beyond ASCII too.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void caseInsensitive() throws Exception {
+    assertThat(this.found("COMMIT", "i", "a commit"), is(true));
+    assertThat(this.found("ÉTÉ", "i", "été"), is(true));
+  }
+
+  /**
+   * The {@code x} flag drops whitespace outside character classes, and nothing else.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void extended() throws Exception {
+    assertThat(this.found("a b\tc", "x", "abc"), is(true));
+    assertThat(this.found("a[ ]b", "x", "a b"), is(true));
+    assertThat(this.found("a#b", "x", "a#b"), is(true));
+  }
+
+  /**
+   * The {@code q} flag takes all characters literally, and can ignore case.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void quoted() throws Exception {
+    assertThat(this.found("a.b", "q", "axb"), is(false));
+    assertThat(this.found("a.b$", "q", "a.b$"), is(true));
+    assertThat(this.found("A.B", "qi", "a.b"), is(true));
+  }
+
+  /**
+   * The multi-character escapes have XPath's meaning.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void escapes() throws Exception {
+    assertThat(this.found("\\d", "", "٣"), is(true));
+    assertThat(this.found("\\w", "", "é"), is(true));
+    assertThat(this.found("\\w", "", "-"), is(false));
+    assertThat(this.found("\\s", "", "\u000b"), is(false));
+    assertThat(this.found("^\\i\\c*$", "", "xsl:template"), is(true));
+    assertThat(this.found("[\\d-]+", "", "1-2"), is(true));
+  }
+
+  /**
+   * Negated classes with multi-character escapes exclude the escapes' characters, whichever
+   * the JDK.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void negatedClasses() throws Exception {
+    assertThat(this.found("^[^\\s]+$", "", "abc"), is(true));
+    assertThat(this.found("^[^\\s]+$", "", "a c"), is(false));
+    assertThat(this.found("^[^\\d]+$", "", "abc"), is(true));
+    assertThat(this.found("^[^\\d]+$", "", "a1c"), is(false));
+    assertThat(this.found("^[^\\w]+$", "", "abc"), is(false));
+    assertThat(this.found("^[^\\w]+$", "", "-. "), is(true));
+    assertThat(this.found("^[^a\\S]+$", "", " \t"), is(true));
+    assertThat(this.found("^[^\\W\\d]+$", "", "ab"), is(true));
+    assertThat(this.found("^[^\\W\\d]+$", "", "a1"), is(false));
+    assertThat(this.found("^[\\^&\\-]+$", "", "^&-"), is(true));
+    // Saxon 9.8 gets negative escapes wrong next to other items: its [a\S] rejects b
+    assertThat(new JavaPattern("^[a\\S]+$", "").value().matcher("b").find(), is(true));
+    assertThat(new JavaPattern("^[^a\\S]+$", "").value().matcher("b").find(), is(false));
+  }
+
+  /**
+   * Character class subtraction is supported, in negated classes and with escapes too.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void subtraction() throws Exception {
+    assertThat(this.found("^[a-z-[aeiou]]+$", "", "bcd"), is(true));
+    assertThat(this.found("^[a-z-[aeiou]]+$", "", "bad"), is(false));
+    assertThat(this.found("^[^a-z-[aeiou]]+$", "", "e"), is(false));
+    assertThat(this.found("^[^a-z-[aeiou]]+$", "", "b"), is(false));
+    assertThat(this.found("^[^a-z-[aeiou]]+$", "", "B1"), is(true));
+    assertThat(this.found("^[^a-z-[aeiou]]+$", "", "B1e"), is(false));
+    assertThat(this.found("^[\\w-[\\d]]+$", "", "ab"), is(true));
+    assertThat(this.found("^[\\w-[\\d]]+$", "", "a1"), is(false));
+    assertThat(this.found("^[a-z-[a-c-[b]]]+$", "", "bx"), is(true));
+    assertThat(this.found("^[a-z-[a-c-[b]]]+$", "", "ax"), is(false));
+  }
+
+  /**
+   * Unicode blocks are supported.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void blocks() throws Exception {
+    assertThat(this.found("^\\p{IsBasicLatin}+$", "", "abc"), is(true));
+    assertThat(this.found("\\P{IsBasicLatin}", "", "abc"), is(false));
+  }
+
+  /**
+   * Unknown flags are an error.
+   * 
+   * @throws Exception expected
+   * @since 1.2.0
+   */
+  @Test(expected = IOException.class)
+  public void errorIfUnknownFlag() throws Exception {
+    new JavaPattern("a", "j").value();
+  }
+
+  /**
+   * Whether the regex matches some part of the text, after checking that XPath agrees.
+   * 
+   * @param regex the regex
+   * @param flags the flags
+   * @param text the text
+   * @return {@code true} if there's a match
+   * @throws Exception unexpected
+   */
+  private boolean found(String regex, String flags, String text) throws Exception {
+    final boolean found = new JavaPattern(regex, flags).value().matcher(text).find();
+    assertThat(
+      String.format("'%s' with flags '%s' in '%s'", regex, flags, text),
+      found,
+      is(new ARegularExpression(regex, flags, "XP30", new ArrayList<>(0)).containsMatch(text))
+    );
+    return found;
+  }
+}
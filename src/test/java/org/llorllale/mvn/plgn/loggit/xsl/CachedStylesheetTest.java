@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPath;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.XMLDocument;
+import java.util.Collections;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CachedStylesheet}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class CachedStylesheetTest {
+  private static final String XSL =
+    "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"2.0\">"
+    + "  <xsl:param name=\"name\"/>"
+    + "  <xsl:template match=\"/\"><greeting><xsl:value-of select=\"$name\"/></greeting>"
+    + "  </xsl:template>"
+    + "</xsl:stylesheet>";
+
+  private static final String TEXT =
+    "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"2.0\">"
+    + "  <xsl:output method=\"text\"/>"
+    + "  <xsl:template match=\"/\">count: <xsl:value-of select=\"count(//item)\"/>"
+    + "  </xsl:template>"
+    + "</xsl:stylesheet>";
+
+  /**
+   * Instances sharing a stylesheet still bind their own params.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void bindsParamsPerInstance() {
+    new CachedStylesheet(
+      CachedStylesheetTest.XSL, new MapOf<>(new MapEntry<>("name", "first"))
+    ).transform(new XMLDocument("<empty/>"));
+    assertThat(
+      new CachedStylesheet(
+        CachedStylesheetTest.XSL, new MapOf<>(new MapEntry<>("name", "second"))
+      ).transform(new XMLDocument("<empty/>")),
+      hasXPath("/greeting[. = 'second']")
+    );
+  }
+
+  /**
+   * Params can be added with {@link CachedStylesheet#with(String, Object)}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void withParam() {
+    assertThat(
+      new CachedStylesheet(CachedStylesheetTest.XSL, Collections.emptyMap())
+        .with("name", "third")
+        .transform(new XMLDocument("<empty/>")),
+      hasXPath("/greeting[. = 'third']")
+    );
+  }
+
+  /**
+   * Text output is honored by {@link CachedStylesheet#applyTo(com.jcabi.xml.XML)}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void appliesToText() {
+    assertThat(
+      new CachedStylesheet(CachedStylesheetTest.TEXT, Collections.emptyMap())
+        .applyTo(new XMLDocument("<items><item/><item/></items>")),
+      equalTo("count: 2")
+    );
+  }
+
+  /**
+   * A stylesheet evicted by more recently used ones is compiled again.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void recompilesEvicted() {
+    for (int idx = 0; idx < 20; ++idx) {
+      new CachedStylesheet(
+        CachedStylesheetTest.TEXT.replace("count:", String.format("count %d:", idx)),
+        Collections.emptyMap()
+      ).applyTo(new XMLDocument("<items/>"));
+    }
+    assertThat(
+      new CachedStylesheet(
+        CachedStylesheetTest.TEXT.replace("count:", "count 0:"), Collections.emptyMap()
+      ).applyTo(new XMLDocument("<items><item/></items>")),
+      equalTo("count 0: 1")
+    );
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl;
+
+// @checkstyle AvoidStaticImport (5 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPath;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.StringReader;
+import javax.xml.transform.stream.StreamSource;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TinyXml}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class TinyXmlTest {
+  private static final String XML = "<items><item>first</item><item>second</item></items>";
+
+  /**
+   * XPath queries return the string values of the results.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void xpath() {
+    assertThat(
+      new TinyXml(new StreamSource(new StringReader(TinyXmlTest.XML))).xpath("//item/text()"),
+      contains("first", "second")
+    );
+  }
+
+  /**
+   * Nodes are trees on their own.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void nodes() {
+    assertThat(
+      new TinyXml(new StreamSource(new StringReader(TinyXmlTest.XML)))
+        .nodes("//item").get(1).xpath("text()"),
+      contains("second")
+    );
+  }
+
+  /**
+   * Registered namespaces can be used in queries.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void registerNs() {
+    assertThat(
+      new TinyXml(new StreamSource(new StringReader("<a xmlns='urn:test'><b>c</b></a>")))
+        .registerNs("t", "urn:test")
+        .xpath("/t:a/t:b/text()"),
+      contains("c")
+    );
+  }
+
+  /**
+   * The tree can be built from a writer's events.
+   * 
+   * @throws Exception unexpected
+   * @since 1.2.0
+   */
+  @Test
+  public void buildsFromEvents() throws Exception {
+    assertThat(
+      new TinyXml(
+        writer -> {
+          writer.writeStartDocument();
+          writer.writeStartElement("items");
+          writer.writeStartElement("item");
+          writer.writeCharacters("first");
+          writer.writeEndDocument();
+        }
+      ),
+      hasXPath("/items/item[. = 'first']")
+    );
+  }
+
+  /**
+   * The DOM is a copy of the tree.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void node() {
+    assertThat(
+      new XMLDocument(
+        new TinyXml(new StreamSource(new StringReader(TinyXmlTest.XML))).node()
+      ).xpath("count(//item)"),
+      contains("2")
+    );
+  }
+
+  /**
+   * Prints the same document as {@link XMLDocument}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void printsLikeXmlDocument() {
+    assertThat(
+      new TinyXml(new StreamSource(new StringReader(TinyXmlTest.XML))).toString(),
+      equalTo(new XMLDocument(TinyXmlTest.XML).toString())
+    );
+  }
+
+  /**
+   * Trees are used as they are; other XMLs are copied.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void treeOfOtherXml() {
+    assertThat(
+      TinyXml.treeOf(new XMLDocument(TinyXmlTest.XML)).toString(),
+      startsWith("<items>")
+    );
+  }
+}
@@ -146,4 +146,18 @@ public final class EndTagTest {
       new Schema()
     ).toString();
   }
+
+  /**
+   * Long logs are truncated without recursing once per commit.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void truncatesLongLogs() {
+    assertThat(
+      // @checkstyle MagicNumber (1 line)
+      new EndTag("v1").applyTo(new LongLog(10_000, 2_000).asXml()),
+      hasXPath("/log/commits[count(commit) = 8000 and commit[1]/id = 'c2000']")
+    );
+  }
 }
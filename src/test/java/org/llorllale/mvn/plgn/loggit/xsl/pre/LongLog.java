@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl.pre;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+
+/**
+ * A long log, to check that the stylesheets don't recurse once per commit.
+ * 
+ * <p>The commits' ids are {@code c<n>}, from {@code c0} for the newest commit. Only the
+ * commit {@code c<tagged>} has a tag: {@code v1}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ */
+final class LongLog {
+  private final int size;
+  private final int tagged;
+
+  /**
+   * Ctor.
+   * 
+   * @param size the number of commits
+   * @param tagged the position of the tagged commit
+   * @since 1.2.0
+   */
+  LongLog(int size, int tagged) {
+    this.size = size;
+    this.tagged = tagged;
+  }
+
+  /**
+   * The log as XML.
+   * 
+   * @return the log
+   * @since 1.2.0
+   */
+  XML asXml() {
+    final StringBuilder xml = new StringBuilder("<log><commits>");
+    for (int idx = 0; idx < this.size; ++idx) {
+      xml.append("<commit><id>c").append(idx).append("</id>")
+        .append("<author><name>a</name><email>a@test.com</email>")
+        .append("<date>2018-02-26T16:42:00Z</date></author>")
+        .append("<message><short>m</short><full>m</full></message><taggedAs>");
+      if (idx == this.tagged) {
+        xml.append("<tag>v1</tag>");
+      }
+      xml.append("</taggedAs></commit>");
+    }
+    return new XMLDocument(xml.append("</commits></log>").toString());
+  }
+}
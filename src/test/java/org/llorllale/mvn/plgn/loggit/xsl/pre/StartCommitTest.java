@@ -161,4 +161,18 @@ public final class StartCommitTest {
       )
     );
   }
+
+  /**
+   * Long logs are truncated without recursing once per commit.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void truncatesLongLogs() {
+    assertThat(
+      // @checkstyle MagicNumber (1 line)
+      new StartCommit("c8000").applyTo(new LongLog(10_000, -1).asXml()),
+      hasXPath("/log/commits[count(commit) = 8001 and commit[last()]/id = 'c8000']")
+    );
+  }
 }
@@ -129,4 +129,18 @@ public final class StartTagTest {
       )
     );
   }
+
+  /**
+   * Long logs are truncated without recursing once per commit.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void truncatesLongLogs() {
+    assertThat(
+      // @checkstyle MagicNumber (1 line)
+      new StartTag("v1").applyTo(new LongLog(10_000, 8_000).asXml()),
+      hasXPath("/log/commits[count(commit) = 8000 and commit[last()]/id = 'c7999']")
+    );
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.mvn.plgn.loggit.xsl.pre;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static com.jcabi.matchers.XhtmlMatchers.hasXPath;
+import static org.junit.Assert.assertThat;
+
+import com.jcabi.xml.StrictXML;
+import com.jcabi.xml.XMLDocument;
+import org.junit.Test;
+import org.llorllale.mvn.plgn.loggit.Schema;
+
+/**
+ * Tests for {@link TagRange}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.2.0
+ * @checkstyle MethodName (500 lines)
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class TagRangeTest {
+  private static final String LOG =
+    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+    + "<log><commits>"
+    + TagRangeTest.commit("c0", "")
+    + TagRangeTest.commit("c1", "<tag>v2</tag>")
+    + TagRangeTest.commit("c2", "")
+    + TagRangeTest.commit("c3", "<tag>v1</tag>")
+    + TagRangeTest.commit("c4", "")
+    + "</commits></log>";
+
+  /**
+   * Keeps the commits from the end tag until the start tag.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsCommitsBetweenTags() {
+    assertThat(
+      new TagRange("v1", "v2").transform(new XMLDocument(TagRangeTest.LOG)),
+      hasXPath("/log/commits[count(commit) = 2 and commit[1]/id = 'c1' and commit[2]/id = 'c2']")
+    );
+  }
+
+  /**
+   * Without an end tag, behaves like {@link StartTag}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsCommitsUntilStartTag() {
+    assertThat(
+      new TagRange("v1", "").transform(new XMLDocument(TagRangeTest.LOG)),
+      hasXPath("/log/commits[count(commit) = 3 and commit[last()]/id = 'c2']")
+    );
+  }
+
+  /**
+   * Without a start tag, behaves like {@link EndTag}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsCommitsFromEndTag() {
+    assertThat(
+      new TagRange("", "v2").transform(new XMLDocument(TagRangeTest.LOG)),
+      hasXPath("/log/commits[count(commit) = 4 and commit[1]/id = 'c1']")
+    );
+  }
+
+  /**
+   * Keeps nothing if the end tag is older than the start tag, like {@link StartTag}
+   * followed by {@link EndTag}.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void keepsNothingIfTagsAreReversed() {
+    assertThat(
+      new TagRange("v2", "v1").transform(new XMLDocument(TagRangeTest.LOG)),
+      hasXPath("/log/commits[count(commit) = 0]")
+    );
+  }
+
+  /**
+   * Output XML must be valid as per the schema.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void validXml() {
+    new StrictXML(
+      new TagRange("v1", "v2").transform(new XMLDocument(TagRangeTest.LOG)),
+      new Schema()
+    ).toString();
+  }
+
+  /**
+   * Long logs are truncated without scanning them for the tags.
+   * 
+   * @since 1.2.0
+   */
+  @Test
+  public void truncatesLongLogs() {
+    assertThat(
+      // @checkstyle MagicNumber (1 line)
+      new TagRange("", "v1").applyTo(new LongLog(10_000, 2_000).asXml()),
+      hasXPath("/log/commits[count(commit) = 8000 and commit[1]/id = 'c2000']")
+    );
+  }
+
+  /**
+   * A commit with the given id and tags.
+   * 
+   * @param id the commit's id
+   * @param tags the commit's tags
+   * @return the commit as XML
+   */
+  private static String commit(String id, String tags) {
+    return String.format(
+      "<commit><id>%s</id><author><name>a</name><email>a@test.com</email>"
+      + "<date>2018-02-26T16:42:00Z</date></author>"
+      + "<message><short>m</short><full>m</full></message><taggedAs>%s</taggedAs></commit>",
+      id, tags
+    );
+  }
+}